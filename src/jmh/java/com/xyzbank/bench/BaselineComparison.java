@@ -0,0 +1,76 @@
+package com.xyzbank.bench;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files. Throughput regresses when it drops, time-based
+ * modes (sample, avgt, ss) regress when they rise, both beyond a relative tolerance.
+ */
+class BaselineComparison {
+
+    private static final Type RESULTS = new TypeToken<List<Map<String, Object>>>() {}.getType();
+
+    private final Map<String, Double> baseline;
+    private final Map<String, Double> current;
+    private final double tolerance;
+
+    BaselineComparison(Path baselineFile, Path resultsFile, double tolerance) throws IOException {
+        this.baseline  = scores(baselineFile);
+        this.current   = scores(resultsFile);
+        this.tolerance = tolerance;
+    }
+
+    List<String> report() {
+        List<String> lines = new ArrayList<>();
+        current.forEach((key, score) -> {
+            Double base = baseline.get(key);
+            if (base == null) {
+                lines.add(String.format("  NEW        %-70s %12.4f", key, score));
+            } else {
+                lines.add(String.format("  %-10s %-70s %12.4f  (baseline %.4f, %+.1f%%)",
+                        isRegression(key, base, score) ? "REGRESSED" : "ok",
+                        key, score, base, 100.0 * (score - base) / base));
+            }
+        });
+        return lines;
+    }
+
+    List<String> regressions() {
+        List<String> regressed = new ArrayList<>();
+        current.forEach((key, score) -> {
+            Double base = baseline.get(key);
+            if (base != null && isRegression(key, base, score)) regressed.add(key);
+        });
+        return regressed;
+    }
+
+    private boolean isRegression(String key, double base, double score) {
+        return key.endsWith(":thrpt")
+                ? score < base * (1 - tolerance)
+                : score > base * (1 + tolerance);
+    }
+
+    // "<benchmark>:<mode>" -> primary score
+    @SuppressWarnings("unchecked")
+    private static Map<String, Double> scores(Path file) throws IOException {
+        List<Map<String, Object>> results = new Json().toType(Files.readString(file, StandardCharsets.UTF_8), RESULTS);
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (Map<String, Object> result : results) {
+            Map<String, Object> primary = (Map<String, Object>) result.get("primaryMetric");
+            scores.put(result.get("benchmark") + ":" + result.get("mode"),
+                    ((Number) primary.get("score")).doubleValue());
+        }
+        return scores;
+    }
+}
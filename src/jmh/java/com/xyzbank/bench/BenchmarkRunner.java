@@ -0,0 +1,63 @@
+package com.xyzbank.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Runs the benchmarks, writes JMH JSON to {@code target/jmh/results.json} and compares
+ * it with the stored baseline ({@code src/jmh/baseline.json}). Exits non-zero on a
+ * regression, and before running anything when there is no baseline to compare with: scores
+ * depend on the machine and Chrome version, so the first run on a machine must record one.
+ * <ul>
+ *   <li>{@code -Dbench.include} — benchmark regex (default: everything in this package)</li>
+ *   <li>{@code -Dbench.tolerance} — allowed relative change (default 0.15)</li>
+ *   <li>{@code -Dbench.updateBaseline=true} — store this run as the new baseline</li>
+ * </ul>
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Path results  = Paths.get(System.getProperty("bench.results", "target/jmh/results.json"));
+        Path baseline = Paths.get(System.getProperty("bench.baseline", "src/jmh/baseline.json"));
+        double tolerance = Double.parseDouble(System.getProperty("bench.tolerance", "0.15"));
+
+        boolean updateBaseline = Boolean.getBoolean("bench.updateBaseline");
+        if (!updateBaseline && !Files.exists(baseline)) {
+            System.err.println("No baseline at " + baseline + " — run once with -Dbench.updateBaseline=true "
+                    + "on the machine that will run the comparison, then commit it");
+            System.exit(1);
+        }
+
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("bench.include", BenchmarkRunner.class.getPackageName() + "\\..*Benchmark"))
+                .jvmArgsAppend("-Dheadless=" + System.getProperty("headless", "true"))
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+        new Runner(options).run();
+
+        if (updateBaseline) {
+            Files.copy(results, baseline, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baseline);
+            return;
+        }
+
+        BaselineComparison comparison = new BaselineComparison(baseline, results, tolerance);
+        System.out.println("Benchmark comparison against " + baseline + " (tolerance " + tolerance + "):");
+        comparison.report().forEach(System.out::println);
+        List<String> regressions = comparison.regressions();
+        if (!regressions.isEmpty()) {
+            System.err.println(regressions.size() + " benchmark(s) regressed: " + regressions);
+            System.exit(1);
+        }
+    }
+}
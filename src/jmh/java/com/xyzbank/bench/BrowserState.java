@@ -0,0 +1,42 @@
+package com.xyzbank.bench;
+
+import com.xyzbank.app.BankApp;
+import com.xyzbank.app.LocalBankServer;
+import com.xyzbank.driver.DriverFactory;
+import com.xyzbank.pages.home.HomePage;
+import com.xyzbank.utils.PageHelper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Starts the headless browser used by a benchmark trial and resolves local fixture URLs.
+ */
+final class BrowserState {
+
+    private BrowserState() {
+    }
+
+    static WebDriver start() {
+        if (System.getProperty("headless") == null) {
+            System.setProperty("headless", "true");
+        }
+        return DriverFactory.createDriver();
+    }
+
+    // Fixtures live in src/jmh/resources/bankapp/fixtures and are served next to the app
+    static String fixtureUrl(String name) {
+        return LocalBankServer.get().baseUrl() + "fixtures/" + name;
+    }
+
+    // Drops all app state and reloads, so the app re-seeds its default customers
+    static void resetApp(WebDriver driver) {
+        driver.get(BankApp.loginUrl());
+        ((JavascriptExecutor) driver).executeScript("localStorage.clear(); sessionStorage.clear();");
+        driver.navigate().refresh();
+        new PageHelper(driver).waitForAppReady(HomePage.READY_XPATH);
+    }
+
+    static void quit(WebDriver driver) {
+        if (driver != null) driver.quit();
+    }
+}
@@ -0,0 +1,35 @@
+package com.xyzbank.bench;
+
+import com.xyzbank.utils.CachingFieldDecorator;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+/**
+ * Page object for {@code fixtures/helper.html}.
+ */
+class HelperFixture {
+
+    @FindBy(id = "clickTarget")
+    WebElement clickTarget;
+
+    @FindBy(id = "amount")
+    WebElement amountInput;
+
+    @FindBy(id = "balance")
+    WebElement balance;
+
+    @FindBy(id = "userSelect")
+    WebElement customerSelect;
+
+    @FindBy(id = "alertTarget")
+    WebElement alertTarget;
+
+    @FindBy(id = "statusTarget")
+    WebElement statusTarget;
+
+    HelperFixture(WebDriver driver) {
+        driver.get(BrowserState.fixtureUrl("helper.html"));
+        CachingFieldDecorator.initElements(driver, this);
+    }
+}
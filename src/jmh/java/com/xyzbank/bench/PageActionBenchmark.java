@@ -0,0 +1,96 @@
+package com.xyzbank.bench;
+
+import com.xyzbank.app.BankApp;
+import com.xyzbank.pages.Pages;
+import com.xyzbank.pages.customer.AccountPage;
+import com.xyzbank.pages.customer.CustomerLoginPage;
+import com.xyzbank.pages.customer.LoginMode;
+import com.xyzbank.pages.manger.ManagerPage;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Composite page-object actions against the bundled local app. App state is reset
+ * before every iteration so transaction lists and customer tables don't grow
+ * across the measurement.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PageActionBenchmark {
+
+    private static final String CUSTOMER = "Hermoine Granger";
+
+    @State(Scope.Benchmark)
+    public static class Customer {
+        WebDriver driver;
+        CustomerLoginPage loginPage;
+        AccountPage accountPage;
+
+        @Setup(Level.Trial)
+        public void startBrowser() {
+            driver    = BrowserState.start();
+            loginPage = Pages.of(driver).get(CustomerLoginPage.class);
+        }
+
+        @Setup(Level.Iteration)
+        public void login() {
+            BrowserState.resetApp(driver);
+            accountPage = loginPage.loginAs(CUSTOMER, LoginMode.STATE);
+        }
+
+        @TearDown(Level.Trial)
+        public void closeBrowser() {
+            BrowserState.quit(driver);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Manager {
+        WebDriver driver;
+        ManagerPage managerPage;
+        int next;
+
+        @Setup(Level.Trial)
+        public void startBrowser() {
+            driver      = BrowserState.start();
+            managerPage = Pages.of(driver).get(ManagerPage.class);
+        }
+
+        @Setup(Level.Iteration)
+        public void openManager() {
+            BrowserState.resetApp(driver);
+            driver.get(BankApp.baseUrl() + "#/manager");
+        }
+
+        @TearDown(Level.Trial)
+        public void closeBrowser() {
+            BrowserState.quit(driver);
+        }
+    }
+
+    @Benchmark
+    public void deposit(Customer state) {
+        state.accountPage.deposit("1");
+    }
+
+    @Benchmark
+    public void withdraw(Customer state) {
+        state.accountPage.withdraw("1");
+    }
+
+    @Benchmark
+    public AccountPage loginAs(Customer state) {
+        return state.loginPage.loginAs(CUSTOMER, LoginMode.STATE);
+    }
+
+    @Benchmark
+    public String addCustomer(Manager state) {
+        int n = state.next++;
+        return state.managerPage.addCustomer("Bench" + n, "User" + n, "E" + n);
+    }
+}
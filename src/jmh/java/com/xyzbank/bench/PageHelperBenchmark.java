@@ -0,0 +1,69 @@
+package com.xyzbank.bench;
+
+import com.xyzbank.utils.PageHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PageHelper primitives against a static local fixture, so only the helper and
+ * WebDriver round-trips are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PageHelperBenchmark {
+
+    private WebDriver driver;
+    private PageHelper helper;
+    private HelperFixture page;
+
+    @Setup(Level.Trial)
+    public void openFixture() {
+        driver = BrowserState.start();
+        helper = new PageHelper(driver);
+        page   = new HelperFixture(driver);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeBrowser() {
+        BrowserState.quit(driver);
+    }
+
+    @Benchmark
+    public void click() {
+        helper.click(page.clickTarget);
+    }
+
+    @Benchmark
+    public void type() {
+        helper.type(page.amountInput, "1000");
+    }
+
+    @Benchmark
+    public String getText() {
+        return helper.getText(page.balance);
+    }
+
+    @Benchmark
+    public void selectByText() {
+        helper.selectByText(page.customerSelect, "Harry Potter");
+    }
+
+    @Benchmark
+    public String acceptAlertAndGetText() {
+        page.alertTarget.click();
+        return helper.acceptAlertAndGetText();
+    }
+
+    @Benchmark
+    public void waitForStatusMessage() {
+        helper.armStatusMessage();
+        page.statusTarget.click();
+        helper.waitForStatusMessage();
+    }
+}
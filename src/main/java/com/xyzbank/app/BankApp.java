@@ -0,0 +1,37 @@
+package com.xyzbank.app;
+
+/**
+ * Resolves where the XYZ Bank app under test lives.
+ * <p>
+ * {@code -Dapp.url=local} (default) serves the bundled copy from {@link LocalBankServer};
+ * {@code -Dapp.url=remote} targets the public globalsqa site; any other value is used
+ * as the app's base URL as-is. The bundled copy does not reproduce everything the real
+ * AngularJS app does, so CI also runs the suite against the remote site.
+ */
+public class BankApp {
+
+    public static final String REMOTE_URL = "https://www.globalsqa.com/angularJs-protractor/BankingProject/";
+
+    private BankApp() {
+    }
+
+    public static String baseUrl() {
+        String url = System.getProperty("app.url", "local");
+        switch (url) {
+            case "local":
+                return LocalBankServer.get().baseUrl();
+            case "remote":
+                return REMOTE_URL;
+            default:
+                return url.endsWith("/") ? url : url + "/";
+        }
+    }
+
+    public static boolean isLocal() {
+        return "local".equals(System.getProperty("app.url", "local"));
+    }
+
+    public static String loginUrl() {
+        return baseUrl() + "#/login";
+    }
+}
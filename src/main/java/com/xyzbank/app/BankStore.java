@@ -0,0 +1,119 @@
+package com.xyzbank.app;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Direct access to the client-side state of the bundled app (see {@code bankapp/app.js}):
+ * customers, accounts and transactions in {@code localStorage}, the logged-in customer
+ * in {@code sessionStorage}. Only valid when {@link BankApp#isLocal()}.
+ */
+public class BankStore {
+
+    private static final Logger log = LoggerFactory.getLogger(BankStore.class);
+
+    // arguments[0] = customer full name; returns the selected account number or null
+    private static final String LOGIN_JS =
+            "var users = JSON.parse(localStorage.getItem('User') || '{}');"
+          + "for (var id in users) {"
+          + "  var u = users[id];"
+          + "  if (u.fName + ' ' + u.lName !== arguments[0] || u.accountNo.length === 0) continue;"
+          + "  sessionStorage.setItem('Session', JSON.stringify({ customerId: u.id, accountNo: u.accountNo[0] }));"
+          + "  if (location.hash === '#/account') window.dispatchEvent(new HashChangeEvent('hashchange'));"
+          + "  else location.hash = '#/account';"
+          + "  return u.accountNo[0];"
+          + "}"
+          + "return null;";
+
+    // arguments[0] = JSON array of [fName, lName, postCd, [[currency, amount, [signed tx]]]];
+    // appends them with the app's id/account numbering in one write per key and re-renders.
+    // Returns the total customer count, or 'error: ...' (state left untouched) if the
+    // data does not fit in localStorage
+    private static final String SEED_JS =
+            "var data = JSON.parse(arguments[0]);"
+          + "var keys = ['User', 'Account', 'Transaction'], before = {};"
+          + "keys.forEach(function (k) { before[k] = localStorage.getItem(k); });"
+          + "var users = JSON.parse(before.User || '{}'), accounts = JSON.parse(before.Account || '{}'),"
+          + "    txs = JSON.parse(before.Transaction || '{}');"
+          + "function max(map, start) { var m = start; for (var k in map) m = Math.max(m, Number(k)); return m; }"
+          + "var id = max(users, 0), no = max(accounts, 1000), now = new Date().toISOString();"
+          + "for (var i = 0; i < data.length; i++) {"
+          + "  var c = data[i], u = users[++id] = { id: id, fName: c[0], lName: c[1], postCd: c[2], accountNo: [], date: now };"
+          + "  for (var j = 0; j < c[3].length; j++) {"
+          + "    var a = c[3][j];"
+          + "    u.accountNo.push(++no);"
+          + "    accounts[no] = { accountNo: no, currency: a[0], amount: a[1], customerId: id, date: now };"
+          + "    if (a[2].length) txs[no] = a[2].map(function (t) {"
+          + "      return { amount: Math.abs(t), date: now, type: t < 0 ? 'Debit' : 'Credit' };"
+          + "    });"
+          + "  }"
+          + "}"
+          + "try {"
+          + "  localStorage.setItem('User', JSON.stringify(users));"
+          + "  localStorage.setItem('Account', JSON.stringify(accounts));"
+          + "  localStorage.setItem('Transaction', JSON.stringify(txs));"
+          + "} catch (e) {"
+          + "  keys.forEach(function (k) {"
+          + "    if (before[k] === null) localStorage.removeItem(k); else localStorage.setItem(k, before[k]);"
+          + "  });"
+          + "  return 'error: ' + e.name;"
+          + "}"
+          + "window.dispatchEvent(new HashChangeEvent('hashchange'));"
+          + "return Object.keys(users).length;";
+
+    private final WebDriver driver;
+
+    public BankStore(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public long login(String customerName) {
+        Object accountNo = ((JavascriptExecutor) driver).executeScript(LOGIN_JS, customerName);
+        if (accountNo == null) {
+            throw new IllegalStateException("No customer with an account named '" + customerName + "'");
+        }
+        log.debug("Session set for '{}' on account {}", customerName, accountNo);
+        return ((Number) accountNo).longValue();
+    }
+
+    // Appends customers (with their accounts and transactions) in a single script call;
+    // returns the total number of customers afterwards
+    public int seed(List<SeedCustomer> customers) {
+        long start = System.nanoTime();
+        Object result = ((JavascriptExecutor) driver).executeScript(SEED_JS, new Json().toJson(toRows(customers)));
+        if (result instanceof String) {
+            throw new IllegalStateException("Seeding " + customers.size() + " customers failed (" + result
+                    + ") — the data set is likely too large for localStorage");
+        }
+        int total = ((Number) result).intValue();
+        log.debug("Seeded {} customers in {} ms, {} in store", customers.size(),
+                (System.nanoTime() - start) / 1_000_000, total);
+        return total;
+    }
+
+    public int seed(int count, IntFunction<SeedCustomer> factory) {
+        return seed(IntStream.range(0, count).mapToObj(factory).collect(Collectors.toList()));
+    }
+
+    // Positional rows keep the payload small for tens of thousands of customers
+    private static List<List<Object>> toRows(List<SeedCustomer> customers) {
+        List<List<Object>> rows = new ArrayList<>(customers.size());
+        for (SeedCustomer c : customers) {
+            List<Object> accounts = new ArrayList<>(c.accounts().size());
+            for (SeedCustomer.Account a : c.accounts()) {
+                accounts.add(List.of(a.currency(), a.balance(), a.transactions()));
+            }
+            rows.add(List.of(c.firstName(), c.lastName(), c.postCode(), accounts));
+        }
+        return rows;
+    }
+}
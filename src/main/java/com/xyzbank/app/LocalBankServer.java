@@ -0,0 +1,116 @@
+package com.xyzbank.app;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Embedded HTTP server for the bundled copy of the XYZ Bank app
+ * ({@code src/main/resources/bankapp}). Started lazily, once per JVM, on a loopback
+ * port ({@code -Dapp.port}, default: any free port).
+ */
+public class LocalBankServer {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalBankServer.class);
+
+    private static final String RESOURCE_ROOT = "bankapp";
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js",   "application/javascript; charset=utf-8",
+            "css",  "text/css; charset=utf-8",
+            "json", "application/json; charset=utf-8",
+            "png",  "image/png");
+
+    private static volatile LocalBankServer instance;
+
+    private final HttpServer server;
+    private final Map<String, byte[]> cache = new ConcurrentHashMap<>();
+
+    private LocalBankServer(int port) throws IOException {
+        // The dispatcher thread inherits daemon status from the thread that creates
+        // the server, so create it on a daemon thread to never keep the JVM alive
+        FutureTask<HttpServer> create = new FutureTask<>(() -> {
+            HttpServer http = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            http.createContext("/", this::handle);
+            http.setExecutor(Executors.newCachedThreadPool(r -> {
+                Thread t = new Thread(r, "local-bank-server");
+                t.setDaemon(true);
+                return t;
+            }));
+            http.start();
+            return http;
+        });
+        Thread starter = new Thread(create, "local-bank-server-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            server = create.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while starting local XYZ Bank server", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to start local XYZ Bank server", e.getCause());
+        }
+    }
+
+    public static LocalBankServer get() {
+        if (instance == null) {
+            synchronized (LocalBankServer.class) {
+                if (instance == null) {
+                    try {
+                        instance = new LocalBankServer(Integer.getInteger("app.port", 0));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Failed to start local XYZ Bank server", e);
+                    }
+                    log.info("Local XYZ Bank app started at {}", instance.baseUrl());
+                }
+            }
+        }
+        return instance;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/")) path += "index.html";
+            byte[] body = path.contains("..") ? new byte[0] : cache.computeIfAbsent(path, this::readResource);
+            if (body.length == 0) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String ext = path.substring(path.lastIndexOf('.') + 1);
+            exchange.getResponseHeaders().set("Content-Type",
+                    CONTENT_TYPES.getOrDefault(ext, "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private byte[] readResource(String path) {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(RESOURCE_ROOT + path)) {
+            return in == null ? new byte[0] : in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
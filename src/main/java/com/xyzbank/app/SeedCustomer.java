@@ -0,0 +1,26 @@
+package com.xyzbank.app;
+
+import java.util.List;
+
+/**
+ * A customer to bulk-load with {@link BankStore#seed}. Transactions are signed
+ * amounts: positive for a Credit, negative for a Debit.
+ */
+public record SeedCustomer(String firstName, String lastName, String postCode, List<Account> accounts) {
+
+    public record Account(String currency, int balance, List<Integer> transactions) {
+
+        public static Account of(String currency, int balance) {
+            return new Account(currency, balance, List.of());
+        }
+    }
+
+    public static SeedCustomer withAccount(String firstName, String lastName, String postCode,
+                                           String currency, int balance) {
+        return new SeedCustomer(firstName, lastName, postCode, List.of(Account.of(currency, balance)));
+    }
+
+    public String fullName() {
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,145 @@
+package com.xyzbank.driver;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Resolves the chromedriver binary once per JVM and shares the result with other
+ * forks through a small cache file, so WebDriverManager's version detection runs at
+ * most once per run (and not at all while the cache is fresh).
+ * <p>
+ * Resolution order:
+ * <ol>
+ *   <li>{@code -Dwebdriver.chrome.driver} pointing at an existing binary (pre-provisioned)</li>
+ *   <li>the cache file ({@code -Ddriver.cache.file}, default {@code target/driver-cache/chromedriver.path}),
+ *       if younger than {@code -Ddriver.cache.ttl.hours} (default 24)</li>
+ *   <li>WebDriverManager, under a file lock so concurrent forks resolve only once</li>
+ * </ol>
+ * With {@code -Ddriver.offline=true} step 3 is never taken and the cache TTL is ignored;
+ * a missing binary is an error instead of a download.
+ */
+public final class ChromeDriverBinary {
+
+    private static final Logger log = LoggerFactory.getLogger(ChromeDriverBinary.class);
+
+    private static final String DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final boolean OFFLINE = Boolean.parseBoolean(System.getProperty("driver.offline", "false"));
+    private static final Path CACHE_FILE =
+            Paths.get(System.getProperty("driver.cache.file", "target/driver-cache/chromedriver.path"));
+    private static final Duration CACHE_TTL =
+            Duration.ofHours(Long.getLong("driver.cache.ttl.hours", 24));
+
+    private static volatile String resolved;
+
+    private ChromeDriverBinary() {
+    }
+
+    // Path of the chromedriver binary; also exported as webdriver.chrome.driver
+    public static String resolve() {
+        if (resolved == null) {
+            synchronized (ChromeDriverBinary.class) {
+                if (resolved == null) {
+                    long start = System.nanoTime();
+                    String path = locate();
+                    System.setProperty(DRIVER_PROPERTY, path);
+                    resolved = path;
+                    log.info("Using chromedriver {} (resolved in {} ms)", path,
+                            Duration.ofNanos(System.nanoTime() - start).toMillis());
+                }
+            }
+        }
+        return resolved;
+    }
+
+    private static String locate() {
+        String provisioned = System.getProperty(DRIVER_PROPERTY);
+        if (isExecutable(provisioned)) {
+            log.debug("Using pre-provisioned chromedriver from -D{}", DRIVER_PROPERTY);
+            return provisioned;
+        }
+
+        String cached = readCache(OFFLINE);
+        if (cached != null) return cached;
+        if (OFFLINE) {
+            throw new IllegalStateException("driver.offline=true but no chromedriver is provisioned: set -D"
+                    + DRIVER_PROPERTY + "=/path/to/chromedriver or run once online to fill " + CACHE_FILE);
+        }
+        return resolveAndCache();
+    }
+
+    // Holds an exclusive lock on the cache file while resolving; forks that arrive
+    // meanwhile block on the lock and then pick up the freshly written path
+    private static String resolveAndCache() {
+        try {
+            Files.createDirectories(CACHE_FILE.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(CACHE_FILE,
+                         StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                String cached = readLocked(channel);
+                if (cached != null) return cached;
+
+                log.debug("Resolving chromedriver with WebDriverManager...");
+                WebDriverManager manager = WebDriverManager.chromedriver();
+                manager.setup();
+                String path = manager.getDownloadedDriverPath();
+                if (path == null) {
+                    throw new IllegalStateException("WebDriverManager could not resolve a chromedriver binary");
+                }
+
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap(path.getBytes(StandardCharsets.UTF_8)), 0);
+                return path;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to cache chromedriver path in " + CACHE_FILE, e);
+        }
+    }
+
+    private static String readCache(boolean ignoreTtl) {
+        try {
+            if (!Files.isRegularFile(CACHE_FILE) || Files.size(CACHE_FILE) == 0) return null;
+            if (!ignoreTtl && isExpired()) return null;
+            String path = Files.readString(CACHE_FILE, StandardCharsets.UTF_8).trim();
+            return isExecutable(path) ? path : null;
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable chromedriver cache {}: {}", CACHE_FILE, e.getMessage());
+            return null;
+        }
+    }
+
+    // Re-read through the locked channel (another handle may be refused while locked)
+    private static String readLocked(FileChannel channel) throws IOException {
+        if (channel.size() == 0 || isExpired()) return null;
+        ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        channel.read(buffer, 0);
+        String path = new String(buffer.array(), StandardCharsets.UTF_8).trim();
+        return isExecutable(path) ? path : null;
+    }
+
+    private static boolean isExpired() throws IOException {
+        Instant written = Files.getLastModifiedTime(CACHE_FILE).toInstant();
+        if (written.plus(CACHE_TTL).isBefore(Instant.now())) {
+            log.debug("Cached chromedriver path is older than {}, resolving again", CACHE_TTL);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isExecutable(String path) {
+        return path != null && !path.isBlank() && Files.isExecutable(Paths.get(path));
+    }
+}
@@ -0,0 +1,163 @@
+package com.xyzbank.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Records a Chrome performance trace ({@code Tracing} domain, the same categories as the
+ * DevTools Performance panel) and the page's {@code Performance.getMetrics} counters for
+ * the time between {@link #start} and {@link #stop}. The trace is written in the format
+ * the Performance panel loads, so a {@code .json.gz} file can be dropped straight into it.
+ */
+public class ChromeTrace {
+
+    private static final Logger log = LoggerFactory.getLogger(ChromeTrace.class);
+
+    private static final List<String> CATEGORIES = List.of(
+            "devtools.timeline", "disabled-by-default-devtools.timeline",
+            "disabled-by-default-devtools.timeline.frame", "toplevel", "v8.execute",
+            "blink.user_timing", "loading", "latencyInfo");
+
+    private static final long COMPLETE_TIMEOUT_SECONDS = 30;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Event<Map<String, Object>> DATA_COLLECTED =
+            new Event<>("Tracing.dataCollected", input -> input.read(Map.class));
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Event<Map<String, Object>> TRACING_COMPLETE =
+            new Event<>("Tracing.tracingComplete", input -> input.read(Map.class));
+
+    // DevTools keeps listeners for the session's lifetime, so pooled drivers get them once
+    // and route events to whichever trace is running
+    private static final Set<WebDriver> LISTENING = Collections.newSetFromMap(Collections.synchronizedMap(new WeakHashMap<>()));
+    private static final Map<WebDriver, ChromeTrace> ACTIVE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final DevTools devTools;
+    private final List<Map<String, Object>> events = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch complete = new CountDownLatch(1);
+    private final Map<String, Double> metricsAtStart;
+
+    private ChromeTrace(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.send(new Command<Void>("Performance.enable", Map.of()));
+        this.metricsAtStart = metrics(devTools);
+    }
+
+    public record Result(List<Map<String, Object>> events, Map<String, Double> performanceMetrics) {
+    }
+
+    /** Starts tracing the driver's current tab; null when the driver has no DevTools or refuses. */
+    public static ChromeTrace start(WebDriver driver) {
+        if (!(driver instanceof HasDevTools)) {
+            log.warn("Tracing needs a Chromium driver, got {}", driver.getClass().getSimpleName());
+            return null;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            // This test's own tab, not whichever page target DevTools would attach to first
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            if (LISTENING.add(driver)) {
+                devTools.addListener(DATA_COLLECTED, data -> {
+                    ChromeTrace trace = ACTIVE.get(driver);
+                    if (trace != null) trace.collect(data);
+                });
+                devTools.addListener(TRACING_COMPLETE, done -> {
+                    ChromeTrace trace = ACTIVE.remove(driver);
+                    if (trace != null) trace.complete.countDown();
+                });
+            }
+            ChromeTrace trace = new ChromeTrace(devTools);
+            ACTIVE.put(driver, trace);
+            devTools.send(new Command<Void>("Tracing.start", Map.of(
+                    "transferMode", "ReportEvents",
+                    "traceConfig", Map.of("includedCategories", CATEGORIES))));
+            log.debug("Tracing started");
+            return trace;
+        } catch (WebDriverException e) {
+            ACTIVE.remove(driver);
+            log.warn("Tracing not started: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** Ends the trace and waits for the browser to deliver the remaining events. */
+    public Result stop() {
+        Map<String, Double> delta = new LinkedHashMap<>();
+        try {
+            // Durations (reported in seconds) and counts since start; gauges such as heap size as they are now
+            metrics(devTools).forEach((name, value) -> {
+                double since = value - metricsAtStart.getOrDefault(name, 0.0);
+                if (name.endsWith("Duration")) {
+                    delta.put(name + "Ms", Math.round(since * 10_000) / 10.0);
+                } else {
+                    delta.put(name, name.endsWith("Count") ? since : value);
+                }
+            });
+            devTools.send(new Command<Void>("Performance.disable", Map.of()));
+            devTools.send(new Command<Void>("Tracing.end", Map.of()));
+            if (!complete.await(COMPLETE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("Trace incomplete after {} s, keeping {} events", COMPLETE_TIMEOUT_SECONDS, events.size());
+            }
+        } catch (WebDriverException e) {
+            log.warn("Tracing not stopped cleanly: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (events) {
+            return new Result(List.copyOf(events), delta);
+        }
+    }
+
+    /** Writes events as a gzipped {@code {"traceEvents": [...]}} document. */
+    public static void writeGzip(List<Map<String, Object>> events, OutputStream out) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(out), StandardCharsets.UTF_8);
+             JsonOutput json = new Json().newOutput(writer)) {
+            json.setPrettyPrint(false).write(Map.of("traceEvents", events));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void collect(Map<String, Object> data) {
+        Object value = data.get("value");
+        if (value instanceof List<?> list) {
+            events.addAll((List<Map<String, Object>>) list);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<String, Double> metrics(DevTools devTools) {
+        Map<String, Object> result = devTools.send(new Command<Map<String, Object>>(
+                "Performance.getMetrics", Map.of(), input -> (Map<String, Object>) input.read(Map.class)));
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (Object entry : (List<?>) result.get("metrics")) {
+            Map<String, Object> metric = (Map<String, Object>) entry;
+            metrics.put((String) metric.get("name"), ((Number) metric.get("value")).doubleValue());
+        }
+        return metrics;
+    }
+}
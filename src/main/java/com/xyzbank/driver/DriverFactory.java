@@ -0,0 +1,59 @@
+package com.xyzbank.driver;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class DriverFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverFactory.class);
+
+    // Per-command latency histograms; -Dmetrics.commands=false hands out a plain ChromeDriver
+    static final boolean COMMAND_METRICS =
+            Boolean.parseBoolean(System.getProperty("metrics.commands", "true"));
+
+    // "process" launches a Chrome per session; "contexts" shares one Chrome and isolates sessions in browser contexts
+    static final boolean CONTEXT_MODE = "contexts".equalsIgnoreCase(System.getProperty("driver.mode", "process"));
+
+    // -Dheadless=true for suites; callers such as the load runner pass their own choice instead
+    static final boolean HEADLESS = Boolean.parseBoolean(System.getProperty("headless", "false"));
+
+    // driver.get returns at DOMContentLoaded (eager) or immediately (none); pages wait for the app instead
+    static final PageLoadStrategy PAGE_LOAD_STRATEGY =
+            PageLoadStrategy.fromString(System.getProperty("driver.pageLoad", "eager"));
+
+    private DriverFactory() {
+    }
+
+    public static WebDriver createDriver() {
+        return createDriver(HEADLESS);
+    }
+
+    public static WebDriver createDriver(boolean headless) {
+        WebDriver driver = CONTEXT_MODE ? SharedChrome.newContext(headless) : createProcessDriver(headless);
+        NetworkFilter.install(driver);
+        if (!Emulation.RUN.isEmpty()) Emulation.apply(driver, Emulation.RUN);
+        return driver;
+    }
+
+    static WebDriver createProcessDriver(boolean headless) {
+        log.debug("Launching new ChromeDriver session...");
+        ChromeDriverBinary.resolve();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--start-maximized");
+        options.addArguments("--disable-notifications");
+        options.setPageLoadStrategy(PAGE_LOAD_STRATEGY);
+
+        if (headless) {
+            options.addArguments("--headless=new");
+            options.addArguments("--no-sandbox");
+            options.addArguments("--disable-dev-shm-usage");
+            options.addArguments("--window-size=1920,1080");
+        }
+
+        return COMMAND_METRICS ? new MeteredChromeDriver(options) : new ChromeDriver(options);
+    }
+}
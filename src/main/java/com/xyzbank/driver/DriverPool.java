@@ -0,0 +1,139 @@
+package com.xyzbank.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Keeps warm ChromeDriver sessions for the lifetime of the JVM.
+ * <p>
+ * A released session is reset (alerts, extra windows, storage, cookies and the
+ * Angular route) and handed to the next test instead of being quit. Sessions that
+ * fail the health check or the reset, or whose emulation is left in an unknown state, are
+ * discarded and replaced on the next {@link #acquire()}. Pass {@code -Ddriver.reuse=false}
+ * to quit after every test.
+ * In {@code -Ddriver.mode=contexts} sessions are never pooled: disposing a browser context
+ * and opening a new one is cheaper than a reset and leaves nothing behind.
+ */
+public class DriverPool {
+
+    private static final Logger log = LoggerFactory.getLogger(DriverPool.class);
+
+    private static final boolean REUSE =
+            Boolean.parseBoolean(System.getProperty("driver.reuse", "true"));
+    private static final int MAX_IDLE =
+            Integer.getInteger("driver.pool.size", Runtime.getRuntime().availableProcessors());
+
+    private static final Deque<WebDriver> idle = new ConcurrentLinkedDeque<>();
+    private static final Set<WebDriver> live = ConcurrentHashMap.newKeySet();
+
+    private static final String CLEAR_STORAGE_JS =
+            "try { window.localStorage.clear(); } catch (e) {}"
+          + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown, "driver-pool-shutdown"));
+    }
+
+    private DriverPool() {
+    }
+
+    public static WebDriver acquire() {
+        WebDriver driver;
+        while ((driver = idle.pollFirst()) != null) {
+            if (isAlive(driver)) {
+                log.debug("Reusing pooled WebDriver session");
+                return driver;
+            }
+            log.warn("Pooled WebDriver session is broken - replacing it");
+            discard(driver);
+        }
+        driver = DriverFactory.createDriver();
+        live.add(driver);
+        log.debug("Created WebDriver session ({} live)", live.size());
+        return driver;
+    }
+
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (!REUSE || DriverFactory.CONTEXT_MODE || idle.size() >= MAX_IDLE
+                || Emulation.isUnknown(driver) || !reset(driver)) {
+            discard(driver);
+            return;
+        }
+        idle.offerFirst(driver);
+        log.debug("WebDriver session returned to pool ({} idle)", idle.size());
+    }
+
+    public static void discard(WebDriver driver) {
+        live.remove(driver);
+        try {
+            driver.quit();
+            log.debug("WebDriver closed");
+        } catch (WebDriverException e) {
+            log.warn("Failed to quit WebDriver: {}", e.getMessage());
+        }
+    }
+
+    static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    static boolean reset(WebDriver driver) {
+        try {
+            dismissAlert(driver);
+            closeExtraWindows(driver);
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_JS);
+            driver.manage().deleteAllCookies();
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            log.warn("Failed to reset WebDriver session: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void dismissAlert(WebDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+            log.debug("Dismissed leftover alert");
+        } catch (NoAlertPresentException ignored) {
+        }
+    }
+
+    private static void closeExtraWindows(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        if (handles.size() <= 1) {
+            return;
+        }
+        String keep = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(keep);
+    }
+
+    private static void shutdown() {
+        idle.clear();
+        for (WebDriver driver : live) {
+            discard(driver);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.xyzbank.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Applies {@link EmulationProfile}s to a session with DevTools commands. Set for the whole run
+ * with {@code -Demulation=slow-4g,cpu-4x}; tests can ask for their own profiles per session.
+ * <p>
+ * Pooled drivers keep their emulation between tests, so every call sets network, CPU and
+ * viewport together (clearing what the new profiles don't use) and is skipped when the
+ * driver already runs with the requested profiles. If a call fails half way the emulation is
+ * cleared again; a driver that cannot be cleared either is marked unknown, re-applied in full
+ * on the next call and discarded by {@link DriverPool} instead of being reused.
+ */
+public class Emulation {
+
+    private static final Logger log = LoggerFactory.getLogger(Emulation.class);
+
+    public static final Set<EmulationProfile> RUN = EmulationProfile.parse(System.getProperty("emulation", ""));
+
+    // A null value marks a driver whose emulation state is unknown after a failed call
+    private static final Map<WebDriver, Set<EmulationProfile>> APPLIED = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private Emulation() {
+    }
+
+    public static void apply(WebDriver driver, Set<EmulationProfile> profiles) {
+        if (profiles.equals(APPLIED.getOrDefault(driver, Set.of()))) {
+            return;
+        }
+        if (!(driver instanceof HasCdp cdp)) {
+            log.warn("Emulation {} needs a Chromium driver, got {}", EmulationProfile.label(profiles),
+                    driver.getClass().getSimpleName());
+            return;
+        }
+        try {
+            network(cdp, profiles);
+            cpu(cdp, profiles);
+            viewport(cdp, profiles);
+            APPLIED.put(driver, Set.copyOf(profiles));
+            log.debug("Emulating {}", EmulationProfile.label(profiles));
+        } catch (WebDriverException e) {
+            log.warn("Emulation {} not applied: {}", EmulationProfile.label(profiles), e.getMessage());
+            APPLIED.put(driver, clear(cdp) ? Set.of() : null);
+        }
+    }
+
+    // True when a failed call may have left the driver partly emulated
+    public static boolean isUnknown(WebDriver driver) {
+        synchronized (APPLIED) {
+            return APPLIED.containsKey(driver) && APPLIED.get(driver) == null;
+        }
+    }
+
+    private static boolean clear(HasCdp cdp) {
+        try {
+            network(cdp, Set.of());
+            cpu(cdp, Set.of());
+            viewport(cdp, Set.of());
+            return true;
+        } catch (WebDriverException e) {
+            log.warn("Emulation could not be cleared: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void network(HasCdp cdp, Set<EmulationProfile> profiles) {
+        // With several network profiles the slowest wins
+        EmulationProfile network = profiles.stream()
+                .filter(EmulationProfile::throttlesNetwork)
+                .min((a, b) -> Integer.compare(a.downloadKbps, b.downloadKbps))
+                .orElse(null);
+        if (network == null) {
+            cdp.executeCdpCommand("Network.emulateNetworkConditions", Map.of(
+                    "offline", false, "latency", 0, "downloadThroughput", -1, "uploadThroughput", -1));
+            return;
+        }
+        cdp.executeCdpCommand("Network.enable", Map.of());
+        cdp.executeCdpCommand("Network.emulateNetworkConditions", Map.of(
+                "offline", false,
+                "latency", network.latencyMs,
+                "downloadThroughput", network.downloadKbps * 1024 / 8,
+                "uploadThroughput", network.uploadKbps * 1024 / 8));
+    }
+
+    private static void cpu(HasCdp cdp, Set<EmulationProfile> profiles) {
+        int rate = profiles.stream().mapToInt(p -> p.cpuRate).max().orElse(0);
+        cdp.executeCdpCommand("Emulation.setCPUThrottlingRate", Map.of("rate", Math.max(rate, 1)));
+    }
+
+    private static void viewport(HasCdp cdp, Set<EmulationProfile> profiles) {
+        boolean mobile = profiles.stream().anyMatch(p -> p.mobile);
+        if (mobile) {
+            cdp.executeCdpCommand("Emulation.setDeviceMetricsOverride", Map.of(
+                    "width", 412, "height", 915, "deviceScaleFactor", 2.625, "mobile", true));
+        } else {
+            cdp.executeCdpCommand("Emulation.clearDeviceMetricsOverride", Map.of());
+        }
+        cdp.executeCdpCommand("Emulation.setTouchEmulationEnabled", Map.of("enabled", mobile));
+    }
+}
@@ -0,0 +1,64 @@
+package com.xyzbank.driver;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Named device conditions applied through DevTools by {@link Emulation}. Network presets match
+ * Chrome DevTools' "3G" and "Slow 4G"; CPU profiles slow the renderer down 4x or 6x; MOBILE is
+ * a 412x915 touch viewport at device pixel ratio 2.625. Profiles combine, e.g. {@code slow-4g,cpu-4x,mobile}.
+ */
+public enum EmulationProfile {
+
+    NET_3G("3g", 2000, 400, 400, 0, false),
+    SLOW_4G("slow-4g", 562.5, 1440, 675, 0, false),
+    CPU_4X("cpu-4x", 0, 0, 0, 4, false),
+    CPU_6X("cpu-6x", 0, 0, 0, 6, false),
+    MOBILE("mobile", 0, 0, 0, 0, true);
+
+    private final String id;
+    final double latencyMs;
+    final int downloadKbps;
+    final int uploadKbps;
+    final int cpuRate;
+    final boolean mobile;
+
+    EmulationProfile(String id, double latencyMs, int downloadKbps, int uploadKbps, int cpuRate, boolean mobile) {
+        this.id = id;
+        this.latencyMs = latencyMs;
+        this.downloadKbps = downloadKbps;
+        this.uploadKbps = uploadKbps;
+        this.cpuRate = cpuRate;
+        this.mobile = mobile;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    boolean throttlesNetwork() {
+        return downloadKbps > 0;
+    }
+
+    // Comma-separated ids; "" or "none" is full desktop speed
+    public static Set<EmulationProfile> parse(String value) {
+        Set<EmulationProfile> profiles = EnumSet.noneOf(EmulationProfile.class);
+        for (String token : value.split(",")) {
+            String id = token.trim().toLowerCase(Locale.ROOT);
+            if (id.isEmpty() || id.equals("none")) continue;
+            profiles.add(Arrays.stream(values())
+                    .filter(p -> p.id.equals(id))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown emulation profile '" + id + "', expected one of "
+                            + Arrays.stream(values()).map(EmulationProfile::id).collect(Collectors.joining(", ")))));
+        }
+        return profiles;
+    }
+
+    public static String label(Set<EmulationProfile> profiles) {
+        return profiles.isEmpty() ? "none" : profiles.stream().map(EmulationProfile::id).collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,43 @@
+package com.xyzbank.driver;
+
+import com.xyzbank.metrics.Metrics;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.CommandPayload;
+import org.openqa.selenium.remote.Response;
+
+/**
+ * ChromeDriver that times every wire command it sends (findElement, clickElement,
+ * getPageSource, executeScript, getAlertText, ...) into {@link Metrics} as {@code command.<name>}.
+ * <p>
+ * Element, alert and navigation calls all funnel through {@link #execute(CommandPayload)},
+ * so this sees the same commands an {@code EventFiringDecorator} would without proxying
+ * every returned element.
+ */
+public class MeteredChromeDriver extends ChromeDriver {
+
+    private final boolean metered;
+
+    public MeteredChromeDriver(ChromeOptions options) {
+        this(options, true);
+    }
+
+    // For subclasses that must extend this class but honour -Dmetrics.commands=false
+    protected MeteredChromeDriver(ChromeOptions options, boolean metered) {
+        super(options);
+        this.metered = metered;
+    }
+
+    @Override
+    protected Response execute(CommandPayload payload) {
+        if (!metered) {
+            return super.execute(payload);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.execute(payload);
+        } finally {
+            Metrics.record("command." + payload.getName(), System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.xyzbank.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Fails requests the banking flows never need (ads, analytics, web fonts) before they
+ * leave the browser, using DevTools request interception ({@code Fetch} domain).
+ * <p>
+ * Only requests matching a blocked host or resource type are paused, so everything else
+ * loads with no extra round trip. Configure with {@code -Dnet.block.hosts} (comma
+ * separated, subdomains included) and {@code -Dnet.block.types} (DevTools resource types
+ * such as {@code Font}, {@code Image}, {@code Media}); {@code -Dnet.block=false} turns it off.
+ */
+public class NetworkFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(NetworkFilter.class);
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("net.block", "true"));
+
+    private static final List<String> HOSTS = list(System.getProperty("net.block.hosts",
+            "googletagmanager.com,google-analytics.com,doubleclick.net,googlesyndication.com,"
+          + "googleadservices.com,adservice.google.com,fonts.googleapis.com,fonts.gstatic.com,"
+          + "facebook.net,hotjar.com"));
+
+    private static final List<String> TYPES = list(System.getProperty("net.block.types", "Font,Media"));
+
+    private static final Event<Map<String, Object>> REQUEST_PAUSED =
+            new Event<>("Fetch.requestPaused", input -> input.read(Map.class));
+
+    private NetworkFilter() {
+    }
+
+    /**
+     * Starts blocking on the driver's current tab; the filter stays for the session's lifetime.
+     * Drivers without DevTools, or a browser that refuses the session, are left unfiltered.
+     */
+    public static void install(WebDriver driver) {
+        if (!ENABLED || (HOSTS.isEmpty() && TYPES.isEmpty()) || !(driver instanceof HasDevTools)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            // Bound to this driver's tab: in contexts mode the shared Chrome also has other sessions' tabs
+            devTools.createSessionIfThereIsNotOne(driver.getWindowHandle());
+            devTools.addListener(REQUEST_PAUSED, event -> fail(devTools, event));
+            devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", patterns())));
+            log.debug("Blocking requests to {} and of type {}", HOSTS, TYPES);
+        } catch (WebDriverException e) {
+            log.warn("Network filter not installed: {}", e.getMessage());
+        }
+    }
+
+    private static void fail(DevTools devTools, Map<String, Object> event) {
+        try {
+            devTools.send(new Command<Void>("Fetch.failRequest",
+                    Map.of("requestId", event.get("requestId"), "errorReason", "BlockedByClient")));
+            if (log.isTraceEnabled()) {
+                log.trace("Blocked {} {}", event.get("resourceType"), ((Map<?, ?>) event.get("request")).get("url"));
+            }
+        } catch (WebDriverException e) {
+            log.debug("Could not block request: {}", e.getMessage());
+        }
+    }
+
+    private static List<Map<String, Object>> patterns() {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String host : HOSTS) {
+            patterns.add(Map.of("urlPattern", "*://" + host + "/*"));
+            patterns.add(Map.of("urlPattern", "*://*." + host + "/*"));
+        }
+        for (String type : TYPES) {
+            patterns.add(Map.of("urlPattern", "*", "resourceType", type));
+        }
+        return patterns;
+    }
+
+    private static List<String> list(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+}
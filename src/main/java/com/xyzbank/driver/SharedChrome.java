@@ -0,0 +1,170 @@
+package com.xyzbank.driver;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.devtools.CdpEndpointFinder;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.Connection;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * One Chrome process per JVM that hosts an isolated browser context per session.
+ * <p>
+ * A context is created over the browser-level DevTools connection
+ * ({@code Target.createBrowserContext}) and gets its own tab, local/session storage
+ * and cookie jar, so it behaves like a fresh profile without launching another Chrome.
+ * Each context is still driven by its own ChromeDriver session attached to the shared browser
+ * through {@code debuggerAddress}, and every such session starts its own chromedriver process;
+ * what is saved is the browser process, its startup and its memory. Quitting the session
+ * disposes the context.
+ * Enabled with {@code -Ddriver.mode=contexts}.
+ */
+public class SharedChrome {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedChrome.class);
+
+    private static final Duration CDP_TIMEOUT = Duration.ofSeconds(10);
+
+    private static WebDriver host;
+    private static String debuggerAddress;
+    private static Connection browser;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SharedChrome::shutdown, "shared-chrome-shutdown"));
+    }
+
+    private SharedChrome() {
+    }
+
+    /**
+     * Opens a new browser context in the shared Chrome and returns a driver bound to its tab.
+     * The first call launches the shared Chrome, so its {@code headless} choice holds for
+     * every context opened afterwards.
+     */
+    public static synchronized WebDriver newContext(boolean headless) {
+        start(headless);
+        String contextId = (String) send("Target.createBrowserContext", Map.of("disposeOnDetach", false))
+                .get("browserContextId");
+        String targetId = (String) send("Target.createTarget",
+                Map.of("url", "about:blank", "browserContextId", contextId)).get("targetId");
+
+        ContextDriver driver;
+        try {
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", debuggerAddress);
+            options.setPageLoadStrategy(DriverFactory.PAGE_LOAD_STRATEGY);
+            driver = new ContextDriver(options, contextId);
+            driver.switchTo().window(windowHandle(driver, targetId));
+        } catch (WebDriverException e) {
+            dispose(contextId);
+            throw e;
+        }
+        log.debug("Opened browser context {}", contextId);
+        return driver;
+    }
+
+    static void dispose(String contextId) {
+        Connection connection;
+        synchronized (SharedChrome.class) {
+            connection = browser;
+        }
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.sendAndWait(null, command("Target.disposeBrowserContext",
+                    Map.of("browserContextId", contextId)), CDP_TIMEOUT);
+            log.debug("Disposed browser context {}", contextId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispose browser context {}: {}", contextId, e.getMessage());
+        }
+    }
+
+    private static void start(boolean headless) {
+        if (host != null) {
+            return;
+        }
+        log.info("Starting shared Chrome for browser contexts");
+        WebDriver driver = DriverFactory.createProcessDriver(headless);
+        try {
+            URI endpoint = CdpEndpointFinder.getReportedUri(((HasCapabilities) driver).getCapabilities())
+                    .orElseThrow(() -> new SessionNotCreatedException("Chrome did not report a debuggerAddress"));
+            HttpClient client = CdpEndpointFinder.getHttpClient(HttpClient.Factory.createDefault(), endpoint);
+            URI websocket = CdpEndpointFinder.getCdpEndPoint(client)
+                    .orElseThrow(() -> new SessionNotCreatedException("No DevTools endpoint at " + endpoint));
+            browser = new Connection(client, websocket.toString());
+            debuggerAddress = endpoint.getAuthority();
+            host = driver;
+        } catch (RuntimeException e) {
+            driver.quit();
+            throw e;
+        }
+    }
+
+    // ChromeDriver window handles are the DevTools target ids (older builds prefix them with "CDwindow-")
+    private static String windowHandle(WebDriver driver, String targetId) {
+        for (String handle : driver.getWindowHandles()) {
+            if (handle.equalsIgnoreCase(targetId) || handle.endsWith("-" + targetId)) {
+                return handle;
+            }
+        }
+        throw new NoSuchWindowException("No window for target " + targetId);
+    }
+
+    private static Map<String, Object> send(String method, Map<String, Object> params) {
+        return browser.sendAndWait(null, command(method, params), CDP_TIMEOUT);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Command<Map<String, Object>> command(String method, Map<String, Object> params) {
+        return new Command<>(method, params, Map.class);
+    }
+
+    private static synchronized void shutdown() {
+        if (browser != null) {
+            browser.close();
+            browser = null;
+        }
+        if (host != null) {
+            try {
+                host.quit();
+            } catch (WebDriverException e) {
+                log.warn("Failed to quit shared Chrome: {}", e.getMessage());
+            }
+            host = null;
+        }
+    }
+
+    /**
+     * ChromeDriver session attached to the shared browser; quitting it drops the context.
+     * Commands are metered like {@link DriverFactory}'s drivers ({@code -Dmetrics.commands}).
+     */
+    static final class ContextDriver extends MeteredChromeDriver {
+
+        private final String contextId;
+
+        ContextDriver(ChromeOptions options, String contextId) {
+            super(options, DriverFactory.COMMAND_METRICS);
+            this.contextId = contextId;
+        }
+
+        @Override
+        public void quit() {
+            try {
+                super.quit();
+            } finally {
+                dispose(contextId);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.xyzbank.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Shape of a load run. {@code users} is a list so one run can step up the number of
+ * concurrent virtual users (e.g. 1,2,4,8) and show where throughput stops scaling.
+ *
+ * @param users     concurrent virtual users per stage
+ * @param rampUp    time over which a stage's users are started, evenly spaced
+ * @param stageTime how long each stage runs once ramp-up has begun
+ * @param thinkTime pause between two actions of one user
+ */
+public record LoadProfile(List<Integer> users, Duration rampUp, Duration stageTime, Duration thinkTime) {
+
+    // -Dload.users=1,2,4  -Dload.rampUp=10  -Dload.stage=60 (seconds)  -Dload.thinkMs=500
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Arrays.stream(System.getProperty("load.users", "1,2,4").split(","))
+                        .map(String::trim).map(Integer::valueOf).collect(Collectors.toList()),
+                Duration.ofSeconds(Long.getLong("load.rampUp", 10)),
+                Duration.ofSeconds(Long.getLong("load.stage", 60)),
+                Duration.ofMillis(Long.getLong("load.thinkMs", 500)));
+    }
+}
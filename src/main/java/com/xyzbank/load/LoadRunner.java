@@ -0,0 +1,137 @@
+package com.xyzbank.load;
+
+import com.xyzbank.logging.LoggingOverhead;
+import com.xyzbank.metrics.Metrics;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives concurrent {@link VirtualUser}s through the customer flows, one stage per entry
+ * in {@link LoadProfile#users()}, against a headless browser per user. Writes the
+ * per-stage report to {@code target/metrics/load-report.json}.
+ * <p>
+ * Users are scheduled on virtual threads when the JVM has them (21+) and on one
+ * platform thread per user otherwise; either way each user blocks on its own
+ * browser, so browser count, not thread count, is what limits a machine.
+ */
+public class LoadRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+
+    private final LoadProfile profile;
+    // Load runs are always headless unless -Dload.headless=false; -Dheadless is left to the suite
+    private final boolean headless = Boolean.parseBoolean(System.getProperty("load.headless", "true"));
+
+    public LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    public static void main(String[] args) {
+        new LoadRunner(LoadProfile.fromSystemProperties()).run();
+        LoggingOverhead.writeReport();
+    }
+
+    public List<StageResult> run() {
+        List<StageResult> stages = new ArrayList<>();
+        for (int users : profile.users()) {
+            StageResult stage = runStage(users);
+            stages.add(stage);
+            log.info("Stage {} users: {} ops in {} s, {} ops/s, {} errors", users, stage.operations(),
+                    stage.summary().get("seconds"), String.format("%.2f", stage.throughputPerSecond()),
+                    stage.errors());
+        }
+        stages.stream().max(Comparator.comparingDouble(StageResult::throughputPerSecond)).ifPresent(peak ->
+                log.info("Peak throughput {} ops/s at {} concurrent users",
+                        String.format("%.2f", peak.throughputPerSecond()), peak.users()));
+        writeReport(stages);
+        return stages;
+    }
+
+    private StageResult runStage(int users) {
+        log.info("Starting stage: {} users, ramp-up {}, duration {}, think time {}",
+                users, profile.rampUp(), profile.stageTime(), profile.thinkTime());
+        StageResult result = new StageResult(users);
+        long start = System.nanoTime();
+        long deadline = start + profile.stageTime().toNanos();
+        ExecutorService executor = newUserExecutor(users);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                long startAt = start + profile.rampUp().toNanos() * i / users;
+                VirtualUser user = new VirtualUser(users, i, result, profile.thinkTime().toMillis(), deadline,
+                        headless);
+                running.add(executor.submit(() -> {
+                    sleepUntil(startAt);
+                    user.run();
+                }));
+            }
+            for (Future<?> f : running) {
+                try {
+                    f.get();
+                } catch (ExecutionException e) {
+                    log.error("Virtual user aborted: {}", e.getCause().toString());
+                    result.error("session");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        result.finish(Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() on Java 21+, looked up reflectively
+    // because the build targets Java 17
+    static ExecutorService newUserExecutor(int users) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger n = new AtomicInteger();
+            return Executors.newFixedThreadPool(users, r -> {
+                Thread t = new Thread(r, "virtual-user-" + n.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long wait = nanoTime - System.nanoTime();
+        if (wait <= 0) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void writeReport(List<StageResult> stages) {
+        List<Object> report = new ArrayList<>();
+        stages.forEach(s -> report.add(s.summary()));
+        try {
+            Files.createDirectories(Metrics.metricsDir());
+            Path file = Metrics.metricsDir().resolve("load-report.json");
+            Files.writeString(file, new Json().toJson(report));
+            log.info("Load report written to {}", file);
+        } catch (IOException e) {
+            log.warn("Failed to write load report: {}", e.getMessage());
+        }
+    }
+}
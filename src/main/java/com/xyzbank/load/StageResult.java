@@ -0,0 +1,82 @@
+package com.xyzbank.load;
+
+import com.xyzbank.metrics.LatencyRecorder;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-action latencies, throughput and error counts of one load stage.
+ */
+public class StageResult {
+
+    private final int users;
+    private final LatencyRecorder latencies;
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+    private volatile Duration elapsed = Duration.ZERO;
+
+    StageResult(int users) {
+        this.users     = users;
+        this.latencies = new LatencyRecorder("users=" + users);
+    }
+
+    void record(String action, long nanos) {
+        latencies.record(action, nanos);
+    }
+
+    synchronized void error(String action) {
+        errors.computeIfAbsent(action, a -> new AtomicLong()).incrementAndGet();
+    }
+
+    void finish(Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public int users() {
+        return users;
+    }
+
+    public long operations() {
+        return latencies.histograms().values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    public synchronized long errors() {
+        return errors.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public double throughputPerSecond() {
+        double seconds = elapsed.toMillis() / 1000.0;
+        return seconds == 0 ? 0 : operations() / seconds;
+    }
+
+    // action -> ops/s, p50/p95/p99 in ms, errors
+    public synchronized Map<String, Object> summary() {
+        double seconds = Math.max(elapsed.toMillis() / 1000.0, 0.001);
+        Map<String, Object> actions = new LinkedHashMap<>();
+        latencies.histograms().forEach((action, h) -> {
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("count", h.getTotalCount());
+            s.put("opsPerSec", round(h.getTotalCount() / seconds));
+            s.put("p50Ms", h.getValueAtPercentile(50) / 1000.0);
+            s.put("p95Ms", h.getValueAtPercentile(95) / 1000.0);
+            s.put("p99Ms", h.getValueAtPercentile(99) / 1000.0);
+            s.put("errors", errors.containsKey(action) ? errors.get(action).get() : 0L);
+            actions.put(action, s);
+        });
+        errors.forEach((action, n) -> actions.putIfAbsent(action, Map.of("count", 0L, "errors", n.get())));
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("users", users);
+        out.put("seconds", round(seconds));
+        out.put("opsPerSec", round(throughputPerSecond()));
+        out.put("errors", errors());
+        out.put("actions", actions);
+        return out;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
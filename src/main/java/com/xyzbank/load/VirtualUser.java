@@ -0,0 +1,93 @@
+package com.xyzbank.load;
+
+import com.xyzbank.app.BankStore;
+import com.xyzbank.app.SeedCustomer;
+import com.xyzbank.driver.DriverFactory;
+import com.xyzbank.pages.Pages;
+import com.xyzbank.pages.customer.AccountPage;
+import com.xyzbank.pages.customer.CustomerLoginPage;
+import com.xyzbank.pages.customer.LoginMode;
+import com.xyzbank.pages.home.HomePage;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * One simulated customer with its own browser: login, deposit, withdraw and view
+ * transactions in a loop until the stage deadline, pausing the think time between
+ * actions.
+ */
+class VirtualUser implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualUser.class);
+
+    private final String name;
+    private final StageResult result;
+    private final long thinkMillis;
+    private final long deadlineNanos;
+    private final boolean headless;
+
+    VirtualUser(int stageUsers, int index, StageResult result, long thinkMillis, long deadlineNanos,
+                boolean headless) {
+        this.name          = "Load" + stageUsers + "x" + index;
+        this.result        = result;
+        this.thinkMillis   = thinkMillis;
+        this.deadlineNanos = deadlineNanos;
+        this.headless      = headless;
+    }
+
+    @Override
+    public void run() {
+        WebDriver driver = DriverFactory.createDriver(headless);
+        try {
+            Pages.of(driver).get(HomePage.class).open();
+            SeedCustomer customer = SeedCustomer.withAccount(name, "User", "E1" + name.length(), "Dollar", 1_000_000);
+            new BankStore(driver).seed(List.of(customer));
+            CustomerLoginPage loginPage = Pages.of(driver).get(CustomerLoginPage.class);
+
+            while (System.nanoTime() < deadlineNanos) {
+                AccountPage account = timed("loginAs", () -> loginPage.loginAs(customer.fullName(), LoginMode.STATE));
+                if (account == null) {
+                    think();
+                    continue;
+                }
+                think();
+                timed("deposit", () -> { account.deposit("100"); return true; });
+                think();
+                timed("withdraw", () -> { account.withdraw("50"); return true; });
+                think();
+                timed("transactions", () -> { account.clickTransactionsTab(); return account.getTransactions(); });
+                think();
+            }
+        } finally {
+            Pages.release(driver);
+            driver.quit();
+        }
+    }
+
+    private <T> T timed(String action, Supplier<T> step) {
+        if (System.nanoTime() >= deadlineNanos) return null;
+        long start = System.nanoTime();
+        try {
+            T value = step.get();
+            result.record(action, System.nanoTime() - start);
+            return value;
+        } catch (RuntimeException e) {
+            result.error(action);
+            log.warn("{}: {} failed: {}", name, action, e.getMessage());
+            return null;
+        }
+    }
+
+    private void think() {
+        if (thinkMillis <= 0) return;
+        try {
+            Thread.sleep(thinkMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.xyzbank.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Log argument that is only computed when the line is actually formatted, i.e. after the
+ * level check, sampling and the async queue's discard decision have all let it through.
+ * <pre>{@code log.debug("Options loaded: {}", Lazy.of(() -> select.getOptions().size()));}</pre>
+ */
+public final class Lazy {
+
+    private final Supplier<?> supplier;
+
+    private Lazy(Supplier<?> supplier) {
+        this.supplier = supplier;
+    }
+
+    public static Object of(Supplier<?> supplier) {
+        return new Lazy(supplier);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(supplier.get());
+    }
+}
@@ -0,0 +1,93 @@
+package com.xyzbank.logging;
+
+import com.xyzbank.metrics.Metrics;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What logging cost this run: time spent appending on the logging threads (measured by
+ * {@link MeteredAppender}, nanosecond histogram) and lines dropped by {@link SamplingFilter}.
+ * Written to {@code target/metrics/logging.json} by {@link #writeReport()} at the end of a run.
+ * Not from a shutdown hook: by then logback's own hook may already have stopped the appenders.
+ */
+public final class LoggingOverhead {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOverhead.class);
+
+    private static final int TOP_SAMPLED = 20;
+
+    private static final Histogram APPEND_NANOS = new ConcurrentHistogram(3);
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+    private static final Map<String, LongAdder> SAMPLED_BY_MESSAGE = new ConcurrentHashMap<>();
+    private static volatile List<String> appenders = List.of();
+
+    private LoggingOverhead() {
+    }
+
+    static void appenders(List<String> names) {
+        appenders = List.copyOf(names);
+    }
+
+    static void appended(long nanos) {
+        APPEND_NANOS.recordValue(Math.max(0, nanos));
+    }
+
+    static void sampledOut(String format) {
+        SAMPLED_OUT.increment();
+        SAMPLED_BY_MESSAGE.computeIfAbsent(format, f -> new LongAdder()).increment();
+    }
+
+    public static Map<String, Object> summary() {
+        Histogram h = APPEND_NANOS.copy();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("appenders", appenders);
+        out.put("lines", h.getTotalCount());
+        out.put("totalMs", Math.round(h.getMean() * h.getTotalCount() / 1_000.0) / 1_000.0);
+        out.put("meanUs", micros(h.getMean()));
+        out.put("p50Us", micros(h.getValueAtPercentile(50)));
+        out.put("p99Us", micros(h.getValueAtPercentile(99)));
+        out.put("maxUs", micros(h.getMaxValue()));
+        out.put("sampledOut", SAMPLED_OUT.sum());
+        Map<String, Long> top = new LinkedHashMap<>();
+        SAMPLED_BY_MESSAGE.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(TOP_SAMPLED)
+                .forEach(e -> top.put(e.getKey(), e.getValue().sum()));
+        out.put("sampledOutByMessage", top);
+        return out;
+    }
+
+    // Call once the run's work is done, while logging still works
+    public static void writeReport() {
+        if (APPEND_NANOS.getTotalCount() == 0 && SAMPLED_OUT.sum() == 0) {
+            return;
+        }
+        Map<String, Object> summary = summary();
+        try {
+            Files.createDirectories(Metrics.metricsDir());
+            Path file = Metrics.metricsDir().resolve("logging.json");
+            Files.writeString(file, new Json().toJson(summary), StandardCharsets.UTF_8);
+            log.info("Logging overhead: {} lines in {} ms on the calling threads, {} sampled out ({})",
+                    summary.get("lines"), summary.get("totalMs"), summary.get("sampledOut"), file);
+        } catch (IOException e) {
+            log.warn("Failed to write logging overhead report: {}", e.getMessage());
+        }
+    }
+
+    private static double micros(double nanos) {
+        return Math.round(nanos) / 1_000.0;
+    }
+}
@@ -0,0 +1,79 @@
+package com.xyzbank.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Forwards every event to its attached appenders and times how long that takes on the
+ * logging thread, which is the overhead a test actually pays for a log line (formatting
+ * and enqueueing for async appenders, encoding and I/O for synchronous ones).
+ * Samples go to {@link LoggingOverhead}.
+ */
+public class MeteredAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+    @Override
+    public void start() {
+        List<String> names = new ArrayList<>();
+        appenders.iteratorForAppenders().forEachRemaining(appender -> names.add(appender.getName()));
+        LoggingOverhead.appenders(names);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        long start = System.nanoTime();
+        appenders.appendLoopOnAppenders(event);
+        LoggingOverhead.appended(System.nanoTime() - start);
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,74 @@
+package com.xyzbank.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rate-limits DEBUG/TRACE lines from the hot-path loggers: each message template may log
+ * {@code perSecond} times per second, the rest are dropped before an event is even built.
+ * INFO and above always pass. Dropped lines are counted in {@link LoggingOverhead}.
+ * <pre>{@code
+ * <turboFilter class="com.xyzbank.logging.SamplingFilter">
+ *     <loggers>com.xyzbank.utils,com.xyzbank.pages</loggers>
+ *     <perSecond>10</perSecond>   <!-- 0 = no sampling -->
+ * </turboFilter>
+ * }</pre>
+ */
+public class SamplingFilter extends TurboFilter {
+
+    private List<String> loggers = List.of("com.xyzbank");
+    private int perSecond = 10;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isDebugEnabled() probes; only real lines are sampled
+        if (perSecond <= 0 || format == null || level == null || level.isGreaterOrEqual(Level.INFO)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (windows.computeIfAbsent(format, f -> new Window()).admit(perSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        LoggingOverhead.sampledOut(format);
+        return FilterReply.DENY;
+    }
+
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    public void setPerSecond(int perSecond) {
+        this.perSecond = perSecond;
+    }
+
+    private boolean sampled(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    private static final class Window {
+        private long second;
+        private int count;
+
+        synchronized boolean admit(int limit) {
+            long now = System.nanoTime() / 1_000_000_000L;
+            if (now != second) {
+                second = now;
+                count = 0;
+            }
+            return count++ < limit;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.xyzbank.metrics;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Action latencies of earlier runs, the reference for {@link Budgets}.
+ * <p>
+ * Each JVM adds the p50 and p95 of the actions it ran to {@code .metrics-history/actions/}
+ * ({@code -Dmetrics.history.dir}, see {@link RunHistory}). The baseline of an action is the median
+ * p50 and median p95 over the last {@code trend.window} (default 5) recorded runs of that action,
+ * so shards that each ran a different subset of actions all contribute. Within a test, an action regressed when its median
+ * is above the baseline p95, i.e. slower than 95% of earlier samples, and also more than
+ * {@code trend.tolerance} (default 20%) and {@code trend.minDeltaMs} (default 10 ms) above the
+ * baseline median. For the whole run, the p50 must in addition exceed the baseline by three
+ * scaled median absolute deviations of the earlier p50s, so run-to-run noise is not flagged.
+ * The run comparison is written to {@code target/metrics/action-baseline.json}.
+ * <p>
+ * Only completed actions of tests that are checked against budgets are sampled: emulated and
+ * suspended tests, and actions outside a test such as the load generator's, would otherwise
+ * teach the baseline multi-second latencies.
+ */
+final class ActionBaseline {
+
+    private static final Logger log = LoggerFactory.getLogger(ActionBaseline.class);
+
+    private static final String PREFIX = "action.";
+    // Files, not runs: a sharded run adds one per shard
+    private static final int MAX_HISTORY = 200;
+
+    private static final RunHistory HISTORY = new RunHistory("actions", MAX_HISTORY);
+    private static final int WINDOW = Integer.getInteger("trend.window", 5);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("trend.tolerance", "0.2"));
+    private static final double MIN_DELTA_MS = Double.parseDouble(System.getProperty("trend.minDeltaMs", "10"));
+
+    private static final Json JSON = new Json();
+    private static final Type RUN_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private record Stats(int runs, double p50Ms, double p95Ms, double madMs) {
+    }
+
+    private static final LatencyRecorder SAMPLES = new LatencyRecorder("baseline");
+
+    private static final List<String> PREVIOUS_RUNS = readHistory();
+    private static final Map<String, Stats> BASELINE = baseline(PREVIOUS_RUNS);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ActionBaseline::write, "action-baseline-writer"));
+    }
+
+    private ActionBaseline() {
+    }
+
+    static List<String> regressions(LatencyRecorder test) {
+        List<String> regressions = new ArrayList<>();
+        test.histograms().forEach((key, h) -> {
+            Stats base = key.startsWith(PREFIX) ? BASELINE.get(action(key)) : null;
+            double median = millis(h.getValueAtPercentile(50));
+            if (base != null && median > base.p95Ms() && slower(median, base.p50Ms())) {
+                regressions.add(String.format(Locale.ROOT,
+                        "%s median %.0f ms in this test, baseline p50 %.0f ms / p95 %.0f ms over %d runs",
+                        action(key), median, base.p50Ms(), base.p95Ms(), base.runs()));
+            }
+        });
+        return regressions;
+    }
+
+    static void record(String action, long nanos) {
+        SAMPLES.record(PREFIX + action, nanos);
+    }
+
+    private static void write() {
+        Map<String, Map<String, Double>> current = new TreeMap<>();
+        SAMPLES.histograms().forEach((key, h) -> {
+            if (key.startsWith(PREFIX)) {
+                Map<String, Double> stats = new LinkedHashMap<>();
+                stats.put("p50Ms", millis(h.getValueAtPercentile(50)));
+                stats.put("p95Ms", millis(h.getValueAtPercentile(95)));
+                current.put(action(key), stats);
+            }
+        });
+        if (current.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Object> actions = new TreeMap<>();
+            current.forEach((action, stats) -> {
+                Stats base = BASELINE.get(action);
+                Map<String, Object> row = new LinkedHashMap<>(stats);
+                boolean regressed = false;
+                if (base != null) {
+                    row.put("baselineP50Ms", base.p50Ms());
+                    row.put("baselineP95Ms", base.p95Ms());
+                    double p50 = stats.get("p50Ms");
+                    regressed = slower(p50, base.p50Ms()) && p50 > base.p50Ms() + 3 * 1.4826 * base.madMs();
+                    if (regressed) {
+                        log.warn("Action regression - {}: p50 {} ms vs baseline {} ms", action, p50, base.p50Ms());
+                    }
+                }
+                row.put("regressed", regressed);
+                actions.put(action, row);
+            });
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("window", WINDOW);
+            report.put("tolerance", TOLERANCE);
+            report.put("actions", actions);
+            Files.createDirectories(Metrics.metricsDir());
+            Path file = Metrics.metricsDir().resolve("action-baseline.json");
+            Files.writeString(file, JSON.toJson(report), StandardCharsets.UTF_8);
+
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("run", Instant.now().toString());
+            run.put("actions", current);
+            HISTORY.add(JSON.toJson(run));
+            log.info("Action baseline comparison written to {}", file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write action baseline: {}", e.getMessage());
+        }
+    }
+
+    private static boolean slower(double current, double baseline) {
+        return current > baseline * (1 + TOLERANCE) && current - baseline > MIN_DELTA_MS;
+    }
+
+    private static List<String> readHistory() {
+        return HISTORY.read().stream().filter(run -> !parse(run).isEmpty()).toList();
+    }
+
+    // Newest first, up to WINDOW runs per action
+    private static Map<String, Stats> baseline(List<String> history) {
+        Map<String, List<Double>> p50s = new TreeMap<>();
+        Map<String, List<Double>> p95s = new TreeMap<>();
+        for (int i = history.size() - 1; i >= 0; i--) {
+            parse(history.get(i)).forEach((action, stats) -> {
+                List<Double> runs = p50s.computeIfAbsent(action, a -> new ArrayList<>());
+                if (runs.size() < WINDOW) {
+                    runs.add(stats[0]);
+                    p95s.computeIfAbsent(action, a -> new ArrayList<>()).add(stats[1]);
+                }
+            });
+        }
+        Map<String, Stats> baseline = new TreeMap<>();
+        p50s.forEach((action, values) -> {
+            double p50 = median(values);
+            double mad = median(values.stream().map(v -> Math.abs(v - p50)).toList());
+            baseline.put(action, new Stats(values.size(), p50, median(p95s.get(action)), mad));
+        });
+        return baseline;
+    }
+
+    // action -> {p50, p95}; empty for a file that is blank, truncated or not in the expected shape
+    @SuppressWarnings("unchecked")
+    private static Map<String, double[]> parse(String line) {
+        Map<String, double[]> actions = new TreeMap<>();
+        try {
+            Map<String, Object> run = JSON.toType(line, RUN_TYPE);
+            Object recorded = run == null ? null : run.get("actions");
+            if (recorded instanceof Map<?, ?> map) {
+                ((Map<String, Object>) map).forEach((action, stats) -> {
+                    if (stats instanceof Map<?, ?> s && s.get("p50Ms") instanceof Number p50
+                            && s.get("p95Ms") instanceof Number p95) {
+                        actions.put(action, new double[]{p50.doubleValue(), p95.doubleValue()});
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            // not JSON at all; skipped with the warning below
+        }
+        if (actions.isEmpty()) {
+            log.warn("Skipping unreadable run in {}: {}", HISTORY.dir(), line.length() > 80 ? line.substring(0, 80) + "..." : line);
+        }
+        return actions;
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static String action(String key) {
+        return key.startsWith(PREFIX) ? key.substring(PREFIX.length()) : key;
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.xyzbank.metrics;
+
+/**
+ * Notified around every {@link ActionTimer}, on the thread running the action. Used by the
+ * tests to report actions as Allure steps without the page objects depending on Allure.
+ */
+public interface ActionListener {
+
+    ActionListener NONE = new ActionListener() {
+        @Override
+        public void started(String action) {
+        }
+
+        @Override
+        public void finished(String action, double millis, long budgetMillis, boolean completed, boolean overBudget) {
+        }
+    };
+
+    void started(String action);
+
+    // budgetMillis is 0 when the action has no budget; completed is false when the action threw
+    void finished(String action, double millis, long budgetMillis, boolean completed, boolean overBudget);
+}
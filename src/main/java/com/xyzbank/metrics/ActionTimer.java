@@ -0,0 +1,57 @@
+package com.xyzbank.metrics;
+
+/**
+ * Times a page-object action into {@link Metrics} under {@code action.<name>}:
+ * <pre>
+ * try (ActionTimer timer = ActionTimer.start("deposit")) {
+ *     ...
+ *     timer.completed();
+ * }
+ * </pre>
+ * An action that did not reach {@link #completed()} (it threw) is reported as such and not
+ * checked against its {@link Budget}.
+ */
+public class ActionTimer implements AutoCloseable {
+
+    private static volatile ActionListener listener = ActionListener.NONE;
+
+    private final String name;
+    private final long budgetMillis;
+    private final long startNanos;
+    private boolean completed;
+
+    private ActionTimer(String name, long budgetMillis) {
+        this.name = name;
+        this.budgetMillis = budgetMillis;
+        listener.started(name);
+        this.startNanos = System.nanoTime();
+    }
+
+    public static ActionTimer start(String name) {
+        return new ActionTimer(name, Budgets.budgetFor(name));
+    }
+
+    public static void setListener(ActionListener actionListener) {
+        listener = actionListener == null ? ActionListener.NONE : actionListener;
+    }
+
+    public void completed() {
+        completed = true;
+    }
+
+    // Marks the action completed and passes its result through: return timer.completed(alert);
+    public <T> T completed(T result) {
+        completed = true;
+        return result;
+    }
+
+    @Override
+    public void close() {
+        long nanos = System.nanoTime() - startNanos;
+        Metrics.record("action." + name, nanos);
+        double millis = nanos / 1_000_000.0;
+        boolean overBudget = completed && Budgets.check(name, millis, budgetMillis);
+        if (completed) Budgets.sample(name, nanos);
+        listener.finished(name, millis, budgetMillis, completed, overBudget);
+    }
+}
@@ -0,0 +1,23 @@
+package com.xyzbank.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency budget in milliseconds for the page-object method that starts an {@link ActionTimer}:
+ * <pre>
+ * &#64;Budget(800)
+ * public void deposit(String amount) {
+ *     try (ActionTimer timer = ActionTimer.start("deposit")) { ...; timer.completed(); }
+ * }
+ * </pre>
+ * {@code -Dbudget.<action>=ms} overrides it per action name. Enforcement is described in {@link Budgets}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Budget {
+
+    long value();
+}
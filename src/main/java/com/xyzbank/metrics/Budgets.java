@@ -0,0 +1,125 @@
+package com.xyzbank.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks page-object actions against their {@link Budget} and against earlier runs.
+ * <p>
+ * Every {@link ActionTimer} looks up the budget of the method that started it and records an
+ * overrun for the current test. At the end of a test, {@link #endTest} adds the actions whose
+ * median in this test is significantly slower than their {@link ActionBaseline}. With
+ * {@code -Dbudget.mode=warn} (default) violations are logged, with {@code fail} the test fails,
+ * and {@code off} skips budgets and the baseline altogether.
+ */
+public final class Budgets {
+
+    private static final Logger log = LoggerFactory.getLogger(Budgets.class);
+
+    public enum Mode { OFF, WARN, FAIL }
+
+    private static final Mode MODE = Mode.valueOf(System.getProperty("budget.mode", "warn").toUpperCase(Locale.ROOT));
+
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    // class#method(descriptor) -> @Budget in ms, 0 for none
+    private static final Map<String, Long> ANNOTATED = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<List<String>> VIOLATIONS = new ThreadLocal<>();
+
+    private Budgets() {
+    }
+
+    public static void startTest() {
+        if (MODE != Mode.OFF) VIOLATIONS.set(new ArrayList<>());
+    }
+
+    // Stops checking the current test, dropping what was recorded so far, and keeps the rest of
+    // its action timings out of the baseline
+    public static void suspend() {
+        VIOLATIONS.remove();
+        Metrics.excludeFromBaseline();
+    }
+
+    // Budget overruns and baseline regressions of the test that just ended
+    public static List<String> endTest(LatencyRecorder test) {
+        List<String> violations = VIOLATIONS.get();
+        VIOLATIONS.remove();
+        if (violations == null) {
+            return List.of();
+        }
+        if (test != null) violations.addAll(ActionBaseline.regressions(test));
+        violations.forEach(v -> log.warn("Performance budget: {}", v));
+        return violations;
+    }
+
+    // Only checked tests feed the baseline; with budgets off it is neither read nor written
+    static void sample(String action, long nanos) {
+        if (VIOLATIONS.get() != null && Metrics.inBaseline()) {
+            ActionBaseline.record(action, nanos);
+        }
+    }
+
+    public static boolean failing() {
+        return MODE == Mode.FAIL;
+    }
+
+    // The nearest @Budget method of the page class that started the timer: frames of the timing
+    // classes are skipped, then the walk stays within the first caller's class, so private helpers
+    // and lambdas between the page method and ActionTimer.start still find it
+    static long budgetFor(String action) {
+        if (MODE == Mode.OFF) {
+            return 0;
+        }
+        Long override = Long.getLong("budget." + action);
+        if (override != null) {
+            return override;
+        }
+        return WALKER.walk(frames -> {
+            Class<?> page = null;
+            for (Iterator<StackWalker.StackFrame> it = frames.iterator(); it.hasNext(); ) {
+                StackWalker.StackFrame frame = it.next();
+                Class<?> type = frame.getDeclaringClass();
+                if (type == ActionTimer.class || type == Budgets.class) continue;
+                if (page == null) page = type;
+                else if (type != page) break;
+                long budget = annotated(frame);
+                if (budget > 0) return budget;
+            }
+            return 0L;
+        });
+    }
+
+    static boolean check(String action, double millis, long budgetMillis) {
+        if (budgetMillis <= 0 || millis <= budgetMillis) {
+            return false;
+        }
+        String violation = String.format(Locale.ROOT, "%s took %.0f ms, budget %d ms", action, millis, budgetMillis);
+        log.debug("Over budget: {}", violation);
+        List<String> violations = VIOLATIONS.get();
+        if (violations != null) violations.add(violation);
+        return true;
+    }
+
+    // Overloads are told apart by the frame's parameter types
+    private static long annotated(StackWalker.StackFrame frame) {
+        String key = frame.getClassName() + '#' + frame.getMethodName() + frame.getDescriptor();
+        return ANNOTATED.computeIfAbsent(key, k -> {
+            try {
+                Budget budget = frame.getDeclaringClass()
+                        .getDeclaredMethod(frame.getMethodName(), frame.getMethodType().parameterArray())
+                        .getAnnotation(Budget.class);
+                return budget == null ? 0L : budget.value();
+            } catch (NoSuchMethodException e) {
+                return 0L;   // constructors and static initializers
+            }
+        });
+    }
+}
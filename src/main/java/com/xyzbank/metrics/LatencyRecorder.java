@@ -0,0 +1,76 @@
+package com.xyzbank.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.openqa.selenium.json.Json;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A named set of HDR latency histograms (microsecond resolution), one per command
+ * or page-object action.
+ */
+public class LatencyRecorder {
+
+    private final String name;
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public LatencyRecorder(String name) {
+        this.name = name;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public void record(String key, long nanos) {
+        histograms.computeIfAbsent(key, k -> new ConcurrentHistogram(3))
+                .recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    public Histogram histogram(String key) {
+        return histograms.get(key);
+    }
+
+    public Map<String, Histogram> histograms() {
+        return new TreeMap<>(histograms);
+    }
+
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    // Summary per key in milliseconds: count, mean, min, p50, p90, p95, p99, max, total
+    public Map<String, Object> summary() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        histograms().forEach((key, h) -> {
+            Map<String, Object> s = new LinkedHashMap<>();
+            s.put("count", h.getTotalCount());
+            s.put("meanMs", millis(h.getMean()));
+            s.put("minMs", millis(h.getMinValue()));
+            s.put("p50Ms", millis(h.getValueAtPercentile(50)));
+            s.put("p90Ms", millis(h.getValueAtPercentile(90)));
+            s.put("p95Ms", millis(h.getValueAtPercentile(95)));
+            s.put("p99Ms", millis(h.getValueAtPercentile(99)));
+            s.put("maxMs", millis(h.getMaxValue()));
+            s.put("totalMs", millis(h.getMean() * h.getTotalCount()));
+            keys.put(key, s);
+        });
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("name", name);
+        out.put("latencies", keys);
+        return out;
+    }
+
+    public String toJson() {
+        return new Json().toJson(summary());
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+}
@@ -0,0 +1,89 @@
+package com.xyzbank.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Latency metrics for the current test (per thread) and the whole run.
+ * <p>
+ * Every sample goes into both. The run-level summary is written to
+ * {@code target/metrics/run-latency.json} (override with {@code -Dmetrics.dir}) when the JVM exits.
+ * Tests that run under emulation or with unusual data sizes call {@link #excludeFromBaseline()}:
+ * their samples are still reported, but the cross-run baselines only learn from ordinary tests.
+ */
+public class Metrics {
+
+    private static final Logger log = LoggerFactory.getLogger(Metrics.class);
+
+    private static final Path METRICS_DIR = Paths.get(System.getProperty("metrics.dir", "target/metrics"));
+    private static final LatencyRecorder RUN = new LatencyRecorder("run");
+    private static final ThreadLocal<LatencyRecorder> TEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> EXCLUDED = new ThreadLocal<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(Metrics::writeRunSummary, "metrics-writer"));
+    }
+
+    private Metrics() {
+    }
+
+    public static void startTest(String testName) {
+        TEST.set(new LatencyRecorder(testName));
+        EXCLUDED.remove();
+    }
+
+    public static LatencyRecorder endTest() {
+        LatencyRecorder recorder = TEST.get();
+        TEST.remove();
+        EXCLUDED.remove();
+        return recorder;
+    }
+
+    // Keeps the rest of the current test out of ActionBaseline and PageTrend
+    public static void excludeFromBaseline() {
+        EXCLUDED.set(Boolean.TRUE);
+    }
+
+    // Outside a test (load generator, benchmarks) nothing counts towards a baseline
+    static boolean inBaseline() {
+        return TEST.get() != null && EXCLUDED.get() == null;
+    }
+
+    public static LatencyRecorder currentTest() {
+        return TEST.get();
+    }
+
+    public static LatencyRecorder run() {
+        return RUN;
+    }
+
+    public static void record(String key, long nanos) {
+        RUN.record(key, nanos);
+        LatencyRecorder test = TEST.get();
+        if (test != null) test.record(key, nanos);
+    }
+
+    public static Path metricsDir() {
+        return METRICS_DIR;
+    }
+
+    private static void writeRunSummary() {
+        if (RUN.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(METRICS_DIR);
+            Path file = METRICS_DIR.resolve("run-latency.json");
+            Files.writeString(file, RUN.toJson(), StandardCharsets.UTF_8);
+            log.info("Run latency summary written to {}", file);
+        } catch (IOException e) {
+            log.warn("Failed to write run latency summary: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.xyzbank.metrics;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Page transitions recorded by {@link PageTransition} during one test, stored column-wise
+ * (one array per metric, one entry per transition) so a test with hundreds of transitions
+ * stays a few kilobytes. Missing values (e.g. navigation timing on an in-app route change)
+ * are null. Rows also feed the run-level {@link PageTrend}, except those of tests excluded from
+ * the baselines ({@link Metrics#excludeFromBaseline()}), e.g. under network or CPU emulation.
+ */
+public class PageTimings {
+
+    static final List<String> METRICS = List.of(
+            "renderMs", "ttfbMs", "dclMs", "loadMs", "fcpMs",
+            "resources", "resourceKb", "slowestResourceMs", "longTasks", "longTaskMs");
+
+    private static final ThreadLocal<PageTimings> TEST = new ThreadLocal<>();
+
+    // transition -> metric -> samples for the whole run
+    private static final Map<String, Map<String, List<Double>>> RUN = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PageTrend::write, "page-trend-writer"));
+    }
+
+    private final String test;
+    private final List<String> transitions = new ArrayList<>();
+    private final Map<String, List<Double>> columns = new LinkedHashMap<>();
+
+    private PageTimings(String test) {
+        this.test = test;
+        METRICS.forEach(metric -> columns.put(metric, new ArrayList<>()));
+    }
+
+    public static void startTest(String testName) {
+        TEST.set(new PageTimings(testName));
+    }
+
+    public static PageTimings endTest() {
+        PageTimings timings = TEST.get();
+        TEST.remove();
+        return timings;
+    }
+
+    static PageTimings current() {
+        return TEST.get();
+    }
+
+    static Map<String, Map<String, List<Double>>> run() {
+        return RUN;
+    }
+
+    void add(String transition, double renderMs, Map<String, Object> perf) {
+        transitions.add(transition);
+        Map<String, List<Double>> runColumns = Metrics.inBaseline()
+                ? RUN.computeIfAbsent(transition, t -> new ConcurrentHashMap<>())
+                : null;
+        for (String metric : METRICS) {
+            Double value = "renderMs".equals(metric) ? Double.valueOf(renderMs) : number(perf.get(metric));
+            Double rounded = value == null ? null : Math.round(value * 10) / 10.0;
+            columns.get(metric).add(rounded);
+            if (rounded != null && runColumns != null) {
+                runColumns.computeIfAbsent(metric, m -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(rounded);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return transitions.isEmpty();
+    }
+
+    public String toJson() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("test", test);
+        out.put("transition", transitions);
+        out.putAll(columns);
+        return new Json().toJson(out);
+    }
+
+    // target/metrics/pages/<test name>.json
+    public Path write() throws IOException {
+        Path dir = Metrics.metricsDir().resolve("pages");
+        Files.createDirectories(dir);
+        Path file = dir.resolve(test.replaceAll("[^A-Za-z0-9._-]+", "_") + ".json");
+        Files.writeString(file, toJson(), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static Double number(Object value) {
+        return value instanceof Number n ? n.doubleValue() : null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.xyzbank.metrics;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Times a page transition (navigation, login, tab switch) until the browser has painted
+ * the result, then reads the Performance API and adds a row to the current test's
+ * {@link PageTimings}:
+ * <pre>
+ * try (PageTransition ignored = PageTransition.start(driver, "home.open")) { ... }
+ * </pre>
+ * Outside a test (load generator, benchmarks) or with {@code -Dmetrics.pages=false} it does nothing.
+ */
+public class PageTransition implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PageTransition.class);
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("metrics.pages", "true"));
+
+    private static final PageTransition NONE = new PageTransition(null, null, null);
+
+    // Resolves after the next two animation frames (i.e. once the transition is painted) with what
+    // the page did since the previous capture: navigation timing and first contentful paint once per
+    // document, plus new resource entries and long tasks. Resource timings are cleared after reading.
+    // The timeout covers hidden tabs, where animation frames never fire.
+    private static final String CAPTURE_JS =
+            "var done = arguments[arguments.length - 1];"
+          + "var p = window.performance;"
+          + "if (!p || !p.getEntriesByType) { done(null); return; }"
+          + "var s = window.__xyzPerf;"
+          + "if (!s) {"
+          + "  s = window.__xyzPerf = { longTasks: [], nav: false, paint: false };"
+          + "  try {"
+          + "    new PerformanceObserver(function (list) { s.longTasks = s.longTasks.concat(list.getEntries()); })"
+          + "      .observe({ type: 'longtask', buffered: true });"
+          + "  } catch (e) {}"
+          + "}"
+          + "var reported = false;"
+          + "function report() {"
+          + "  if (reported) return; reported = true;"
+          + "  var out = {};"
+          + "  var nav = p.getEntriesByType('navigation')[0];"
+          + "  if (nav && !s.nav && nav.domContentLoadedEventEnd > 0) {"
+          + "    s.nav = true;"
+          + "    out.ttfbMs = nav.responseStart; out.dclMs = nav.domContentLoadedEventEnd;"
+          + "    if (nav.loadEventEnd > 0) out.loadMs = nav.loadEventEnd;"
+          + "  }"
+          + "  var fcp = p.getEntriesByName('first-contentful-paint')[0];"
+          + "  if (fcp && !s.paint) { s.paint = true; out.fcpMs = fcp.startTime; }"
+          + "  var res = p.getEntriesByType('resource'), bytes = 0, slowest = 0;"
+          + "  for (var i = 0; i < res.length; i++) {"
+          + "    bytes += res[i].transferSize || 0; slowest = Math.max(slowest, res[i].duration);"
+          + "  }"
+          + "  if (p.clearResourceTimings) p.clearResourceTimings();"
+          + "  out.resources = res.length; out.resourceKb = bytes / 1024; out.slowestResourceMs = slowest;"
+          + "  var lt = s.longTasks, busy = 0; s.longTasks = [];"
+          + "  for (var j = 0; j < lt.length; j++) busy += lt[j].duration;"
+          + "  out.longTasks = lt.length; out.longTaskMs = busy;"
+          + "  done(out);"
+          + "}"
+          + "if (window.requestAnimationFrame) {"
+          + "  requestAnimationFrame(function () { requestAnimationFrame(report); });"
+          + "}"
+          + "setTimeout(report, 100);";
+
+    private final WebDriver driver;
+    private final String name;
+    private final PageTimings timings;
+    private final long startNanos;
+
+    private PageTransition(WebDriver driver, String name, PageTimings timings) {
+        this.driver = driver;
+        this.name = name;
+        this.timings = timings;
+        this.startNanos = System.nanoTime();
+    }
+
+    public static PageTransition start(WebDriver driver, String name) {
+        PageTimings timings = PageTimings.current();
+        return ENABLED && timings != null ? new PageTransition(driver, name, timings) : NONE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void close() {
+        if (timings == null) {
+            return;
+        }
+        try {
+            Object perf = ((JavascriptExecutor) driver).executeAsyncScript(CAPTURE_JS);
+            double renderMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+            timings.add(name, renderMs, perf instanceof Map ? (Map<String, Object>) perf : Map.of());
+        } catch (WebDriverException e) {
+            log.debug("Page timing for '{}' not captured: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.xyzbank.metrics;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares this run's page timings with earlier runs and flags pages that got slower.
+ * <p>
+ * Each JVM adds the median render, load and first-paint time of the transitions it saw to
+ * {@code .metrics-history/pages/} ({@code -Dmetrics.history.dir}, see {@link RunHistory}). The
+ * baseline is the median of the last {@code trend.window} (default 5) recorded runs of each
+ * transition; a transition is flagged when it
+ * is more than {@code trend.tolerance} (default 20%) and {@code trend.minDeltaMs} (default 10 ms)
+ * slower. The comparison goes to {@code target/metrics/page-trend.json}, regressions are logged.
+ */
+final class PageTrend {
+
+    private static final Logger log = LoggerFactory.getLogger(PageTrend.class);
+
+    private static final List<String> TRACKED = List.of("renderMs", "loadMs", "fcpMs");
+    private static final int MAX_HISTORY = 200;
+
+    private static final RunHistory HISTORY = new RunHistory("pages", MAX_HISTORY);
+    private static final int WINDOW = Integer.getInteger("trend.window", 5);
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("trend.tolerance", "0.2"));
+    private static final double MIN_DELTA_MS = Double.parseDouble(System.getProperty("trend.minDeltaMs", "10"));
+
+    private static final Json JSON = new Json();
+    private static final Type RUN_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+
+    private PageTrend() {
+    }
+
+    static void write() {
+        Map<String, Map<String, Double>> current = medians(PageTimings.run());
+        if (current.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Object> report = compare(current, baselines(HISTORY.read()));
+            Files.createDirectories(Metrics.metricsDir());
+            Path file = Metrics.metricsDir().resolve("page-trend.json");
+            Files.writeString(file, JSON.toJson(report), StandardCharsets.UTF_8);
+
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("run", Instant.now().toString());
+            run.put("pages", current);
+            HISTORY.add(JSON.toJson(run));
+            log.info("Page timing trend written to {}", file);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to write page timing trend: {}", e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> compare(Map<String, Map<String, Double>> current,
+                                               Map<String, Map<String, Double>> baseline) {
+        Map<String, Object> pages = new TreeMap<>();
+        List<String> regressions = new ArrayList<>();
+        current.forEach((transition, metrics) -> {
+            Map<String, Object> rows = new LinkedHashMap<>();
+            metrics.forEach((metric, now) -> {
+                Double before = baseline.getOrDefault(transition, Map.of()).get(metric);
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("current", now);
+                row.put("baseline", before);
+                boolean regressed = before != null && now > before * (1 + TOLERANCE) && now - before > MIN_DELTA_MS;
+                if (before != null && before > 0) {
+                    row.put("changePct", Math.round((now / before - 1) * 1000) / 10.0);
+                }
+                row.put("regressed", regressed);
+                if (regressed) {
+                    regressions.add(String.format("%s %s: %.1f ms vs baseline %.1f ms", transition, metric, now, before));
+                }
+                rows.put(metric, row);
+            });
+            pages.put(transition, rows);
+        });
+        regressions.forEach(r -> log.warn("Page timing regression - {}", r));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("window", WINDOW);
+        report.put("tolerance", TOLERANCE);
+        report.put("regressions", regressions);
+        report.put("pages", pages);
+        return report;
+    }
+
+    // Median of each transition metric over the last WINDOW runs that recorded it, newest first
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Double>> baselines(List<String> history) {
+        Map<String, Map<String, List<Double>>> samples = new TreeMap<>();
+        for (int i = history.size() - 1; i >= 0; i--) {
+            String line = history.get(i);
+            try {
+                Map<String, Object> run = JSON.toType(line, RUN_TYPE);
+                Map<String, Map<String, Number>> pages = (Map<String, Map<String, Number>>) run.get("pages");
+                pages.forEach((transition, metrics) -> metrics.forEach((metric, value) -> {
+                    List<Double> values = samples.computeIfAbsent(transition, t -> new TreeMap<>())
+                            .computeIfAbsent(metric, m -> new ArrayList<>());
+                    if (values.size() < WINDOW) values.add(value.doubleValue());
+                }));
+            } catch (RuntimeException e) {
+                // a truncated or hand-edited file must not block every later trend
+                log.warn("Skipping unreadable run in {}: {}", HISTORY.dir(), line.length() > 80 ? line.substring(0, 80) + "..." : line);
+            }
+        }
+        return medians(samples);
+    }
+
+    private static Map<String, Map<String, Double>> medians(Map<String, Map<String, List<Double>>> samples) {
+        Map<String, Map<String, Double>> out = new TreeMap<>();
+        samples.forEach((transition, metrics) -> metrics.forEach((metric, values) -> {
+            if (TRACKED.contains(metric) && !values.isEmpty()) {
+                List<Double> sorted;
+                synchronized (values) {
+                    sorted = values.stream().sorted().toList();
+                }
+                out.computeIfAbsent(transition, t -> new TreeMap<>()).put(metric, sorted.get(sorted.size() / 2));
+            }
+        }));
+        return out;
+    }
+}
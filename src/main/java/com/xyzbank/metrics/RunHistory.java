@@ -0,0 +1,85 @@
+package com.xyzbank.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Earlier runs' summaries, one JSON file per JVM under {@code .metrics-history/<name>/}
+ * ({@code -Dmetrics.history.dir}).
+ * <p>
+ * Shards and parallel JVMs each add their own file instead of rewriting a shared one, so no run
+ * is lost to another's write; each file only holds the entries that JVM saw. Files are named by
+ * creation time, read oldest first, and the oldest are pruned beyond the limit.
+ */
+final class RunHistory {
+
+    private static final Logger log = LoggerFactory.getLogger(RunHistory.class);
+
+    private static final Path ROOT = Paths.get(System.getProperty("metrics.history.dir", ".metrics-history"));
+
+    private final Path dir;
+    private final int limit;
+
+    RunHistory(String name, int limit) {
+        this.dir = ROOT.resolve(name);
+        this.limit = limit;
+    }
+
+    Path dir() {
+        return dir;
+    }
+
+    // File contents, oldest first
+    List<String> read() {
+        List<String> runs = new ArrayList<>();
+        for (Path file : files()) {
+            try {
+                runs.add(Files.readString(file, StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                // pruned by another JVM between listing and reading
+                log.debug("Could not read {}: {}", file, e.getMessage());
+            }
+        }
+        return runs;
+    }
+
+    // Written under a temporary name and moved into place, so readers never see half a file
+    void add(String json) throws IOException {
+        Files.createDirectories(dir);
+        String name = String.format("%013d-%s", System.currentTimeMillis(), UUID.randomUUID().toString().substring(0, 8));
+        Path tmp = dir.resolve(name + ".tmp");
+        Files.writeString(tmp, json, StandardCharsets.UTF_8);
+        Files.move(tmp, dir.resolve(name + ".json"), StandardCopyOption.ATOMIC_MOVE);
+        prune();
+    }
+
+    private void prune() throws IOException {
+        List<Path> files = files();
+        for (Path file : files.subList(0, Math.max(0, files.size() - limit))) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private List<Path> files() {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".json")).sorted().toList();
+        } catch (IOException e) {
+            log.warn("Could not list {}: {}", dir, e.getMessage());
+            return List.of();
+        }
+    }
+}
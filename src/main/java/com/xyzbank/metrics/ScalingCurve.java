@@ -0,0 +1,78 @@
+package com.xyzbank.metrics;
+
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency-vs-size samples for one operation, with the growth exponent estimated
+ * on a log-log scale: 1.0 is linear, 2.0 quadratic. Small sizes are dominated by
+ * fixed per-step overhead, so the gate uses the slope between the two largest sizes.
+ */
+public class ScalingCurve {
+
+    private final String operation;
+    private final TreeMap<Integer, Double> millisBySize = new TreeMap<>();
+
+    public ScalingCurve(String operation) {
+        this.operation = operation;
+    }
+
+    public synchronized void add(int size, double millis) {
+        millisBySize.put(size, millis);
+    }
+
+    public String operation() {
+        return operation;
+    }
+
+    public synchronized int points() {
+        return millisBySize.size();
+    }
+
+    // Least-squares slope of log(ms) over log(size), across all sizes
+    public synchronized double overallExponent() {
+        List<double[]> xy = new ArrayList<>();
+        millisBySize.forEach((n, ms) -> xy.add(new double[]{Math.log(n), Math.log(Math.max(ms, 0.001))}));
+        if (xy.size() < 2) return Double.NaN;
+        double mx = xy.stream().mapToDouble(p -> p[0]).average().orElse(0);
+        double my = xy.stream().mapToDouble(p -> p[1]).average().orElse(0);
+        double num = 0, den = 0;
+        for (double[] p : xy) {
+            num += (p[0] - mx) * (p[1] - my);
+            den += (p[0] - mx) * (p[0] - mx);
+        }
+        return den == 0 ? Double.NaN : num / den;
+    }
+
+    public synchronized double tailExponent() {
+        if (millisBySize.size() < 2) return Double.NaN;
+        Map.Entry<Integer, Double> last = millisBySize.lastEntry();
+        Map.Entry<Integer, Double> prev = millisBySize.lowerEntry(last.getKey());
+        return Math.log(Math.max(last.getValue(), 0.001) / Math.max(prev.getValue(), 0.001))
+                / Math.log((double) last.getKey() / prev.getKey());
+    }
+
+    public synchronized Map<String, Object> summary() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("operation", operation);
+        List<Map<String, Object>> points = new ArrayList<>();
+        millisBySize.forEach((n, ms) -> points.add(Map.of("size", n, "ms", Math.round(ms * 1000) / 1000.0)));
+        out.put("points", points);
+        out.put("overallExponent", round(overallExponent()));
+        out.put("tailExponent", round(tailExponent()));
+        return out;
+    }
+
+    public String toJson() {
+        return new Json().toJson(summary());
+    }
+
+    private static Object round(double value) {
+        return Double.isNaN(value) ? null : Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,125 @@
+package com.xyzbank.metrics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits the renderer main thread's busy time in a Chrome trace into scripting, style and
+ * layout, paint and other work, the way the DevTools Performance panel's summary does:
+ * every slice counts its self time (duration minus nested slices) towards its own category.
+ */
+public final class TraceSummary {
+
+    private static final Set<String> SCRIPTING = Set.of(
+            "EvaluateScript", "v8.compile", "v8.compileModule", "v8.evaluateModule", "v8.produceCache",
+            "v8.run", "v8.callFunction", "V8.Execute", "FunctionCall", "TimerFire", "FireIdleCallback",
+            "FireAnimationFrame", "EventDispatch", "XHRReadyStateChange", "XHRLoad", "RunMicrotasks",
+            "MajorGC", "MinorGC", "V8.GCScavenger", "V8.GCCompactor", "V8.GCFinalizeMC");
+
+    private static final Set<String> LAYOUT = Set.of(
+            "Layout", "UpdateLayoutTree", "RecalculateStyles", "ParseAuthorStyleSheet", "UpdateLayerTree",
+            "HitTest");
+
+    private static final Set<String> PAINT = Set.of(
+            "Paint", "PaintImage", "PaintSetup", "PrePaint", "Layerize", "CompositeLayers", "Commit",
+            "Decode Image", "ImageDecodeTask", "Rasterize", "RasterTask");
+
+    private record Slice(String name, double ts, double dur) {
+        double end() {
+            return ts + dur;
+        }
+    }
+
+    // A slice whose nested slices are still being subtracted from its self time
+    private static final class Open {
+        final Slice slice;
+        double self;
+
+        Open(Slice slice) {
+            this.slice = slice;
+            this.self = slice.dur();
+        }
+    }
+
+    private TraceSummary() {
+    }
+
+    public static Map<String, Object> mainThread(List<Map<String, Object>> events) {
+        List<Slice> slices = mainThreadSlices(events);
+        slices.sort(Comparator.comparingDouble(Slice::ts).thenComparing(Comparator.comparingDouble(Slice::dur).reversed()));
+
+        Map<String, Double> selfMicros = new LinkedHashMap<>();
+        for (String category : List.of("scripting", "layout", "paint", "other")) selfMicros.put(category, 0.0);
+        double busy = 0;
+        double longestTask = 0;
+        int tasks = 0;
+        Deque<Open> stack = new ArrayDeque<>();
+        for (Slice slice : slices) {
+            while (!stack.isEmpty() && stack.peek().slice.end() <= slice.ts()) {
+                close(stack.pop(), selfMicros);
+            }
+            if (stack.isEmpty()) {
+                busy += slice.dur();
+                longestTask = Math.max(longestTask, slice.dur());
+                tasks++;
+            } else {
+                Open parent = stack.peek();
+                parent.self -= Math.min(slice.dur(), parent.slice.end() - slice.ts());
+            }
+            stack.push(new Open(slice));
+        }
+        while (!stack.isEmpty()) {
+            close(stack.pop(), selfMicros);
+        }
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("mainThreadMs", millis(busy));
+        selfMicros.forEach((category, micros) -> out.put(category + "Ms", millis(micros)));
+        out.put("tasks", tasks);
+        out.put("longestTaskMs", millis(longestTask));
+        return out;
+    }
+
+    private static void close(Open open, Map<String, Double> selfMicros) {
+        selfMicros.merge(category(open.slice.name()), Math.max(0, open.self), Double::sum);
+    }
+
+    private static String category(String name) {
+        if (SCRIPTING.contains(name)) return "scripting";
+        if (LAYOUT.contains(name)) return "layout";
+        if (PAINT.contains(name)) return "paint";
+        return "other";
+    }
+
+    // Complete ("X") slices of the busiest CrRendererMain thread
+    private static List<Slice> mainThreadSlices(List<Map<String, Object>> events) {
+        Map<String, List<Slice>> byThread = new HashMap<>();
+        List<String> mainThreads = new ArrayList<>();
+        for (Map<String, Object> event : events) {
+            String thread = event.get("pid") + ":" + event.get("tid");
+            if ("M".equals(event.get("ph")) && "thread_name".equals(event.get("name"))
+                    && event.get("args") instanceof Map<?, ?> args && "CrRendererMain".equals(args.get("name"))) {
+                mainThreads.add(thread);
+            } else if ("X".equals(event.get("ph")) && event.get("dur") instanceof Number dur
+                    && event.get("ts") instanceof Number ts) {
+                byThread.computeIfAbsent(thread, t -> new ArrayList<>())
+                        .add(new Slice(String.valueOf(event.get("name")), ts.doubleValue(), dur.doubleValue()));
+            }
+        }
+        return mainThreads.stream()
+                .map(thread -> byThread.getOrDefault(thread, new ArrayList<>()))
+                .max(Comparator.comparingInt(List::size))
+                .orElseGet(ArrayList::new);
+    }
+
+    private static double millis(double micros) {
+        return Math.round(micros / 100) / 10.0;
+    }
+}
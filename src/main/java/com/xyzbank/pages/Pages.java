@@ -0,0 +1,56 @@
+package com.xyzbank.pages;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-browser-session registry of page objects. Pages are built on first use and then
+ * reused, together with their {@code PageHelper}, waits and cached elements, by every
+ * navigation that returns them ({@code loginAs}, {@code logout}, {@code clickManagerLogin}, ...).
+ * <p>
+ * Page classes need a public {@code (WebDriver)} constructor. Call {@link #release} when
+ * the session ends so a pooled browser starts its next test with fresh pages.
+ */
+public class Pages {
+
+    private static final Map<WebDriver, Pages> SESSIONS = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+    private final Map<Class<?>, Object> pages = new ConcurrentHashMap<>();
+
+    private Pages(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static Pages of(WebDriver driver) {
+        return SESSIONS.computeIfAbsent(driver, Pages::new);
+    }
+
+    public static void release(WebDriver driver) {
+        SESSIONS.remove(driver);
+    }
+
+    public <T> T get(Class<T> type) {
+        Object page = pages.get(type);
+        if (page == null) {
+            page = create(type);
+            Object existing = pages.putIfAbsent(type, page);
+            if (existing != null) page = existing;
+        }
+        return type.cast(page);
+    }
+
+    private <T> T create(Class<T> type) {
+        try {
+            return type.getConstructor(WebDriver.class).newInstance(driver);
+        } catch (InvocationTargetException e) {
+            throw new WebDriverException("Failed to create page " + type.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(type.getName() + " needs a public (WebDriver) constructor", e);
+        }
+    }
+}
@@ -1,20 +1,28 @@
 package com.xyzbank.pages.customer;
 
+import com.xyzbank.metrics.ActionTimer;
+import com.xyzbank.metrics.Budget;
+import com.xyzbank.metrics.PageTransition;
+import com.xyzbank.pages.Pages;
 import com.xyzbank.pages.home.HomePage;
+import com.xyzbank.utils.CachingFieldDecorator;
 import com.xyzbank.utils.PageHelper;
-import org.openqa.selenium.By;
+import com.xyzbank.utils.TableReader;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class AccountPage {
 
     private static final Logger log = LoggerFactory.getLogger(AccountPage.class);
     private final WebDriver driver;
     private final PageHelper helper;
+    private final TableReader table;
 
     @FindBy(xpath = "//button[contains(text(),'Transactions')]")
     private WebElement transactionsTab;
@@ -43,7 +51,8 @@ public class AccountPage {
     public AccountPage(WebDriver driver) {
         this.driver = driver;
         this.helper = new PageHelper(driver);
-        PageFactory.initElements(driver, this);
+        this.table  = new TableReader(driver);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
     public int getBalance() {
@@ -53,34 +62,51 @@ public class AccountPage {
         return value;
     }
 
+    @Budget(800)
     public void deposit(String amount) {
         log.debug("Depositing amount: {}", amount);
-        helper.click(depositTab);
-        helper.type(amountInput, amount);
-        helper.safeClick(submitBtn);
-        helper.waitForStatusMessage();
-        log.debug("Deposit of {} completed", amount);
+        try (ActionTimer timer = ActionTimer.start("deposit")) {
+            helper.click(depositTab);
+            helper.type(amountInput, amount);
+            helper.armStatusMessage();
+            helper.safeClick(submitBtn);
+            helper.waitForStatusMessage();
+            log.debug("Deposit of {} completed", amount);
+            timer.completed();
+        }
     }
 
+    @Budget(800)
     public void withdraw(String amount) {
         log.debug("Withdrawing amount: {}", amount);
-        helper.click(withdrawTab);
-        helper.type(amountInput, amount);
-        helper.safeClick(submitBtn);
-        helper.waitForStatusMessage();
-        log.debug("Withdrawal of {} completed", amount);
+        try (ActionTimer timer = ActionTimer.start("withdraw")) {
+            helper.click(withdrawTab);
+            helper.type(amountInput, amount);
+            helper.armStatusMessage();
+            helper.safeClick(submitBtn);
+            helper.waitForStatusMessage();
+            log.debug("Withdrawal of {} completed", amount);
+            timer.completed();
+        }
     }
 
     public void clickTransactionsTab() {
         log.debug("Clicking Transactions tab...");
-        helper.click(transactionsTab);
+        try (PageTransition ignored = PageTransition.start(driver, "account.transactions")) {
+            helper.click(transactionsTab);
+        }
+    }
+
+    public List<Transaction> getTransactions() {
+        List<Transaction> transactions = table.readRows(TableReader.BODY_ROWS).stream()
+                .map(Transaction::fromCells)
+                .collect(Collectors.toList());
+        log.debug("Read {} transactions", transactions.size());
+        return transactions;
     }
 
     public int getTransactionCount() {
-        int count = (int) driver.findElements(By.xpath("//table/tbody/tr"))
-                .stream()
-                .filter(r -> !r.getText().trim().isEmpty())
-                .count();
+        int count = getTransactions().size();
         log.debug("Transaction row count: {}", count);
         return count;
     }
@@ -95,9 +121,16 @@ public class AccountPage {
         return visible;
     }
 
+    public void backToAccount() {
+        log.debug("Returning to account view...");
+        try (PageTransition ignored = PageTransition.start(driver, "account.back")) {
+            helper.click(backBtn);
+        }
+    }
+
     public HomePage logout() {
         log.debug("Logging out...");
         helper.click(logoutBtn);
-        return new HomePage(driver);
+        return Pages.of(driver).get(HomePage.class);
     }
 }
\ No newline at end of file
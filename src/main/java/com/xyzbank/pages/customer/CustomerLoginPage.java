@@ -1,12 +1,20 @@
 package com.xyzbank.pages.customer;
 
+import com.xyzbank.app.BankApp;
+import com.xyzbank.app.BankStore;
+import com.xyzbank.logging.Lazy;
+import com.xyzbank.metrics.ActionTimer;
+import com.xyzbank.metrics.Budget;
+import com.xyzbank.metrics.PageTransition;
+import com.xyzbank.pages.Pages;
+import com.xyzbank.pages.home.HomePage;
+import com.xyzbank.utils.CachingFieldDecorator;
 import com.xyzbank.utils.PageHelper;
+import com.xyzbank.utils.StableWait;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +26,7 @@ public class CustomerLoginPage {
     private static final Logger log = LoggerFactory.getLogger(CustomerLoginPage.class);
     private final WebDriver driver;
     private final PageHelper helper;
+    private final BankStore store;
 
     @FindBy(id = "userSelect")
     private WebElement customerSelect;
@@ -34,35 +43,78 @@ public class CustomerLoginPage {
     public CustomerLoginPage(WebDriver driver) {
         this.driver = driver;
         this.helper = new PageHelper(driver);
-        PageFactory.initElements(driver, this);
+        this.store  = new BankStore(driver);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
     public AccountPage loginAs(String customerName) {
+        return loginAs(customerName, LoginMode.current());
+    }
+
+    public AccountPage loginAs(String customerName, LoginMode mode) {
+        boolean viaState = mode == LoginMode.STATE && BankApp.isLocal();
+        if (!viaState) {
+            showLoginForm();
+        }
+        try (PageTransition ignored = PageTransition.start(driver, "customer.login")) {
+            return viaState ? loginViaState(customerName) : loginViaUi(customerName);
+        }
+    }
+
+    // The customer dropdown only exists on the login route; callers may still be on the home
+    // or account page, e.g. when STATE falls back to UI against a remote app
+    private void showLoginForm() {
+        if (!driver.findElements(By.id("userSelect")).isEmpty()) {
+            return;
+        }
+        log.debug("Customer login form not shown - going there through the home page");
+        HomePage home = Pages.of(driver).get(HomePage.class);
+        if (!driver.getCurrentUrl().contains("#/login")) {
+            home.open();
+        }
+        home.clickCustomerLogin();
+    }
+
+    @Budget(1000)
+    private AccountPage loginViaState(String customerName) {
+        log.debug("Logging in as customer via app state: {}", customerName);
+        try (ActionTimer timer = ActionTimer.start("login.state")) {
+            store.login(customerName);
+            helper.isClickable(depositTab);
+            log.debug("Account dashboard fully loaded and ready");
+            return timer.completed(Pages.of(driver).get(AccountPage.class));
+        }
+    }
+
+    @Budget(3000)
+    private AccountPage loginViaUi(String customerName) {
         log.debug("Logging in as customer: {}", customerName);
-        helper.selectByText(customerSelect, customerName);
-        helper.click(loginBtn);
+        try (ActionTimer timer = ActionTimer.start("login.ui")) {
+            helper.selectByText(customerSelect, customerName);
+            helper.click(loginBtn);
 
-        new WebDriverWait(driver, Duration.ofSeconds(10))
-                .until(d -> d.getCurrentUrl().contains("#/account"));
-        log.debug("Login successful - account page loaded");
+            new StableWait(driver, Duration.ofSeconds(10))
+                    .until(d -> d.getCurrentUrl().contains("#/account"));
+            log.debug("Login successful - account page loaded");
 
-        helper.isVisible(accountSelect);
+            helper.isVisible(accountSelect);
 
-        log.debug("Waiting for account options to populate...");
-        new WebDriverWait(driver, Duration.ofSeconds(30)).until(d -> {
-            Select s = new Select(d.findElement(By.id("accountSelect")));
-            int size = s.getOptions().size();
-            log.debug("Account dropdown options count: {}", size);
-            return size > 1;
-        });
+            log.debug("Waiting for account options to populate...");
+            new StableWait(driver, Duration.ofSeconds(30)).until(d -> {
+                Select s = new Select(d.findElement(By.id("accountSelect")));
+                int size = s.getOptions().size();
+                log.debug("Account dropdown options count: {}", size);
+                return size > 1;
+            });
 
-        Select dropdown = new Select(driver.findElement(By.id("accountSelect")));
-        dropdown.selectByIndex(1);
-        log.debug("First account selected — total options: {}", dropdown.getOptions().size());
+            Select dropdown = new Select(driver.findElement(By.id("accountSelect")));
+            dropdown.selectByIndex(1);
+            log.debug("First account selected — total options: {}", Lazy.of(() -> dropdown.getOptions().size()));
 
-        helper.isClickable(depositTab);
-        log.debug("Account dashboard fully loaded and ready");
+            helper.isClickable(depositTab);
+            log.debug("Account dashboard fully loaded and ready");
 
-        return new AccountPage(driver);
+            return timer.completed(Pages.of(driver).get(AccountPage.class));
+        }
     }
 }
\ No newline at end of file
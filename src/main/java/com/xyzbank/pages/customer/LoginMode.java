@@ -0,0 +1,22 @@
+package com.xyzbank.pages.customer;
+
+import com.xyzbank.app.BankApp;
+
+import java.util.Locale;
+
+/**
+ * How {@link CustomerLoginPage#loginAs(String)} signs a customer in.
+ * UI drives the dropdown and Login button; STATE writes the session straight into
+ * the bundled app's storage and routes to the account page.
+ */
+public enum LoginMode {
+
+    UI,
+    STATE;
+
+    // -Dlogin.mode=ui|state; STATE only applies to the bundled local app
+    public static LoginMode current() {
+        LoginMode mode = valueOf(System.getProperty("login.mode", "state").toUpperCase(Locale.ROOT));
+        return mode == STATE && !BankApp.isLocal() ? UI : mode;
+    }
+}
@@ -0,0 +1,21 @@
+package com.xyzbank.pages.customer;
+
+import java.util.List;
+
+/**
+ * One row of the customer's transaction history.
+ */
+public record Transaction(String dateTime, int amount, String type) {
+
+    public static Transaction fromCells(List<String> cells) {
+        return new Transaction(cells.get(0), Integer.parseInt(cells.get(1)), cells.get(2));
+    }
+
+    public boolean isCredit() {
+        return "Credit".equals(type);
+    }
+
+    public boolean isDebit() {
+        return "Debit".equals(type);
+    }
+}
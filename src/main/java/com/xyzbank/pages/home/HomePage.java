@@ -1,22 +1,31 @@
 package com.xyzbank.pages.home;
 
+import com.xyzbank.app.BankApp;
+import com.xyzbank.metrics.ActionTimer;
+import com.xyzbank.metrics.Budget;
+import com.xyzbank.metrics.PageTransition;
+import com.xyzbank.pages.Pages;
 import com.xyzbank.pages.customer.CustomerLoginPage;
 import com.xyzbank.pages.manger.ManagerPage;
+import com.xyzbank.utils.CachingFieldDecorator;
 import com.xyzbank.utils.PageHelper;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class HomePage {
 
     private static final Logger log = LoggerFactory.getLogger(HomePage.class);
+
+    // Rendered by the login route; open() returns once it is on screen
+    public static final String READY_XPATH = "//button[contains(text(),'Customer Login')]";
+
     private final WebDriver driver;
     private final PageHelper helper;
 
-    @FindBy(xpath = "//button[contains(text(),'Customer Login')]")
+    @FindBy(xpath = READY_XPATH)
     private WebElement customerLoginBtn;
 
     @FindBy(xpath = "//button[contains(text(),'Bank Manager Login')]")
@@ -25,23 +34,34 @@ public class HomePage {
     public HomePage(WebDriver driver) {
         this.driver = driver;
         this.helper = new PageHelper(driver);
-        PageFactory.initElements(driver, this);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
+    @Budget(5000)
     public void open() {
         log.debug("Navigating to XYZ Bank login page...");
-        driver.get("https://www.globalsqa.com/angularJs-protractor/BankingProject/#/login");
+        // The timer closes first, so the transition's capture script is not counted as action time
+        try (PageTransition ignored = PageTransition.start(driver, "home.open");
+             ActionTimer timer = ActionTimer.start("open")) {
+            driver.get(BankApp.loginUrl());
+            helper.waitForAppReady(READY_XPATH);
+            timer.completed();
+        }
     }
 
     public CustomerLoginPage clickCustomerLogin() {
         log.debug("Clicking Customer Login button...");
-        helper.click(customerLoginBtn);
-        return new CustomerLoginPage(driver);
+        try (PageTransition ignored = PageTransition.start(driver, "home.customerLogin")) {
+            helper.click(customerLoginBtn);
+        }
+        return Pages.of(driver).get(CustomerLoginPage.class);
     }
 
     public ManagerPage clickManagerLogin() {
         log.debug("Clicking Bank Manager Login button...");
-        helper.click(managerLoginBtn);
-        return new ManagerPage(driver);
+        try (PageTransition ignored = PageTransition.start(driver, "home.managerLogin")) {
+            helper.click(managerLoginBtn);
+        }
+        return Pages.of(driver).get(ManagerPage.class);
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.xyzbank.pages.manger;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One row of the manager's customer list.
+ */
+public record CustomerRow(String firstName, String lastName, String postCode, List<String> accountNumbers) {
+
+    public static CustomerRow fromCells(List<String> cells) {
+        String accounts = cells.size() > 3 ? cells.get(3) : "";
+        return new CustomerRow(cells.get(0), cells.get(1), cells.get(2),
+                accounts.isEmpty() ? List.of() : Arrays.asList(accounts.split(" ")));
+    }
+
+    public boolean contains(String text) {
+        return firstName.contains(text) || lastName.contains(text) || postCode.contains(text)
+                || String.join(" ", accountNumbers).contains(text);
+    }
+}
@@ -1,21 +1,26 @@
 package com.xyzbank.pages.manger;
 
+import com.xyzbank.metrics.ActionTimer;
+import com.xyzbank.metrics.Budget;
+import com.xyzbank.metrics.PageTransition;
+import com.xyzbank.utils.CachingFieldDecorator;
 import com.xyzbank.utils.PageHelper;
-import org.openqa.selenium.By;
+import com.xyzbank.utils.TableReader;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class ManagerPage {
 
     private static final Logger log = LoggerFactory.getLogger(ManagerPage.class);
     private final WebDriver driver;
     private final PageHelper helper;
+    private final TableReader table;
 
     @FindBy(xpath = "//button[contains(text(),'Add Customer')]")
     private WebElement addCustomerTab;
@@ -53,70 +58,104 @@ public class ManagerPage {
     public ManagerPage(WebDriver driver) {
         this.driver = driver;
         this.helper = new PageHelper(driver);
-        PageFactory.initElements(driver, this);
+        this.table  = new TableReader(driver);
+        CachingFieldDecorator.initElements(driver, this);
     }
 
+    // Tab switches are captured as page transitions; the timed actions below click their tab
+    // directly so the capture does not count towards their latency
     public void goToAddCustomer() {
         log.debug("Navigating to Add Customer tab...");
-        helper.click(addCustomerTab);
+        try (PageTransition ignored = PageTransition.start(driver, "manager.addCustomer")) {
+            helper.click(addCustomerTab);
+        }
     }
 
     public void goToOpenAccount() {
         log.debug("Navigating to Open Account tab...");
-        helper.click(openAccountTab);
+        try (PageTransition ignored = PageTransition.start(driver, "manager.openAccount")) {
+            helper.click(openAccountTab);
+        }
     }
 
     public void goToCustomers() {
         log.debug("Navigating to Customers tab...");
-        helper.click(customersTab);
+        try (PageTransition ignored = PageTransition.start(driver, "manager.customers")) {
+            helper.click(customersTab);
+        }
     }
 
+    @Budget(1500)
     public String addCustomer(String firstName, String lastName, String postCode) {
         log.debug("Adding customer: {} {}", firstName, lastName);
-        goToAddCustomer();
-        helper.type(firstNameInput, firstName);
-        helper.type(lastNameInput, lastName);
-        helper.type(postCodeInput, postCode);
-        helper.click(addBtn);
-        String alert = helper.acceptAlertAndGetText();
-        log.debug("Add customer alert: {}", alert);
-        return alert;
+        try (ActionTimer timer = ActionTimer.start("addCustomer")) {
+            helper.click(addCustomerTab);
+            helper.type(firstNameInput, firstName);
+            helper.type(lastNameInput, lastName);
+            helper.type(postCodeInput, postCode);
+            helper.click(addBtn);
+            String alert = helper.acceptAlertAndGetText();
+            log.debug("Add customer alert: {}", alert);
+            return timer.completed(alert);
+        }
     }
 
+    @Budget(1500)
     public String openAccount(String customerFullName, String currency) {
         log.debug("Opening {} account for: {}", currency, customerFullName);
-        goToOpenAccount();
-        helper.selectByText(customerSelect, customerFullName);
-        helper.selectByText(currencySelect, currency);
-        helper.click(processBtn);
-        String alert = helper.acceptAlertAndGetText();
-        log.debug("Open account alert: {}", alert);
-        return alert;
+        try (ActionTimer timer = ActionTimer.start("openAccount")) {
+            helper.click(openAccountTab);
+            helper.selectByText(customerSelect, customerFullName);
+            helper.selectByText(currencySelect, currency);
+            helper.click(processBtn);
+            String alert = helper.acceptAlertAndGetText();
+            log.debug("Open account alert: {}", alert);
+            return timer.completed(alert);
+        }
     }
 
+    public List<CustomerRow> getCustomers() {
+        List<CustomerRow> customers = table.readRows(TableReader.BODY_ROWS).stream()
+                .map(CustomerRow::fromCells)
+                .collect(Collectors.toList());
+        log.debug("Read {} customer rows", customers.size());
+        return customers;
+    }
+
+    @Budget(2000)
+    public List<CustomerRow> searchCustomers(String query) {
+        log.debug("Searching customers for '{}'...", query);
+        try (ActionTimer timer = ActionTimer.start("searchCustomers")) {
+            helper.click(customersTab);
+            helper.type(searchInput, query);
+            return timer.completed(getCustomers());
+        }
+    }
+
+    @Budget(2000)
     public boolean isCustomerInList(String firstName) {
         log.debug("Checking if customer '{}' is in list...", firstName);
-        goToCustomers();
-        helper.type(searchInput, firstName);
-        List<WebElement> rows = driver.findElements(By.xpath("//table/tbody/tr"));
-        boolean found = rows.stream().anyMatch(r -> r.getText().contains(firstName));
-        log.debug("Customer '{}' found in list: {}", firstName, found);
-        return found;
+        try (ActionTimer timer = ActionTimer.start("isCustomerInList")) {
+            boolean found = searchCustomers(firstName).stream().anyMatch(c -> c.contains(firstName));
+            log.debug("Customer '{}' found in list: {}", firstName, found);
+            return timer.completed(found);
+        }
     }
 
+    @Budget(1500)
     public boolean deleteCustomer(String firstName) {
         log.debug("Deleting customer: {}", firstName);
-        goToCustomers();
-        helper.type(searchInput, firstName);
-        List<WebElement> rows = driver.findElements(By.xpath("//table/tbody/tr"));
-        for (WebElement row : rows) {
-            if (row.getText().contains(firstName)) {
-                row.findElement(By.xpath(".//button[text()='Delete']")).click();
+        try (ActionTimer timer = ActionTimer.start("deleteCustomer")) {
+            helper.click(customersTab);
+            helper.type(searchInput, firstName);
+            WebElement deleteBtn = table.findInRow(TableReader.BODY_ROWS, firstName, "button");
+            if (deleteBtn != null) {
+                deleteBtn.click();
                 log.debug("Delete button clicked for: {}", firstName);
-                return true;
+                return timer.completed(true);
             }
+            log.warn("Customer '{}' not found for deletion", firstName);
+            return timer.completed(false);
         }
-        log.warn("Customer '{}' not found for deletion", firstName);
-        return false;
     }
 }
\ No newline at end of file
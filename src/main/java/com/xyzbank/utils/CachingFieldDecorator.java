@@ -0,0 +1,86 @@
+package com.xyzbank.utils;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * PageFactory decorator whose {@code @FindBy} proxies keep the element they located.
+ * <p>
+ * The stock proxy runs a findElement before every call, so {@code helper.click(el)}
+ * costs three lookups on top of isDisplayed/isEnabled/click. This one looks up once and
+ * reuses the element until the browser reports it stale (re-render, navigation), then
+ * finds it again and retries the call. Staleness is detected from the failing call
+ * itself, so a valid cached element costs no extra round trip.
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+
+    public CachingFieldDecorator(SearchContext context) {
+        super(new DefaultElementLocatorFactory(context));
+    }
+
+    public static void initElements(SearchContext context, Object page) {
+        PageFactory.initElements(new CachingFieldDecorator(context), page);
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader,
+                new Class<?>[]{WebElement.class, WrapsElement.class, Locatable.class},
+                new CachingElementHandler(locator));
+    }
+
+    private static final class CachingElementHandler implements InvocationHandler {
+
+        private final ElementLocator locator;
+        private WebElement cached;
+
+        private CachingElementHandler(ElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            // Describing the proxy (e.g. in a log line) must not touch the browser
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Proxy element for: " + locator;
+            }
+            boolean fromCache = cached != null;
+            WebElement element = fromCache ? cached : locate();
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                boolean gone = cause instanceof StaleElementReferenceException
+                        || cause instanceof NoSuchElementException;
+                if (!fromCache || !gone) throw cause;
+            }
+            try {
+                return method.invoke(locate(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private WebElement locate() {
+            cached = null;
+            cached = locator.findElement();
+            return cached;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.xyzbank.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory copy of part of the DOM, captured in one script call. All queries run
+ * against the copy, so any number of assertions costs no further browser traffic
+ * (unlike {@code getPageSource()}, which ships the whole serialized page each time).
+ * <p>
+ * A snapshot never updates; capture a new one after the page changes.
+ */
+public class DomSnapshot {
+
+    private static final Logger log = LoggerFactory.getLogger(DomSnapshot.class);
+
+    // arguments[0] = root CSS selector ('' = body); returns the visible text, every
+    // element with its attributes, own text and visibility, and the table body rows
+    private static final String CAPTURE_JS =
+            "var root = arguments[0] ? document.querySelector(arguments[0]) : document.body;"
+          + "if (!root) return null;"
+          + "function squash(s) { return (s || '').replace(/\\s+/g, ' ').trim(); }"
+          + "var out = { text: squash(root.innerText || root.textContent), elements: [], rows: [] };"
+          + "var all = [root].concat(Array.prototype.slice.call(root.querySelectorAll('*')));"
+          + "for (var i = 0; i < all.length; i++) {"
+          + "  var el = all[i], tag = el.tagName.toLowerCase();"
+          + "  if (tag === 'script' || tag === 'style') continue;"
+          + "  var attrs = {};"
+          + "  for (var a = 0; a < el.attributes.length; a++) attrs[el.attributes[a].name] = el.attributes[a].value;"
+          + "  var own = '';"
+          + "  for (var c = el.firstChild; c; c = c.nextSibling) if (c.nodeType === 3) own += c.nodeValue;"
+          + "  out.elements.push({ tag: tag, attributes: attrs, text: squash(own),"
+          + "    value: el.value === undefined ? null : String(el.value),"
+          + "    visible: !!(el.offsetWidth || el.offsetHeight || el.getClientRects().length) });"
+          + "}"
+          + "var rows = root.querySelectorAll('table tbody tr');"
+          + "for (var r = 0; r < rows.length; r++) {"
+          + "  var cells = [];"
+          + "  for (var k = 0; k < rows[r].cells.length; k++) cells.push(squash(rows[r].cells[k].textContent));"
+          + "  out.rows.push(cells);"
+          + "}"
+          + "return out;";
+
+    private final String text;
+    private final List<Element> elements;
+    private final List<List<String>> rows;
+
+    private DomSnapshot(String text, List<Element> elements, List<List<String>> rows) {
+        this.text     = text;
+        this.elements = elements;
+        this.rows     = rows;
+    }
+
+    public static DomSnapshot capture(WebDriver driver) {
+        return capture(driver, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static DomSnapshot capture(WebDriver driver, String rootSelector) {
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(CAPTURE_JS, rootSelector == null ? "" : rootSelector);
+        if (raw == null) {
+            throw new NoSuchElementException("No element matches snapshot root: " + rootSelector);
+        }
+        List<Element> elements = new ArrayList<>();
+        for (Map<String, Object> e : (List<Map<String, Object>>) raw.get("elements")) {
+            elements.add(new Element(
+                    (String) e.get("tag"),
+                    Collections.unmodifiableMap(new LinkedHashMap<>((Map<String, String>) e.get("attributes"))),
+                    (String) e.get("text"),
+                    (String) e.get("value"),
+                    Boolean.TRUE.equals(e.get("visible"))));
+        }
+        List<List<String>> rows = ((List<List<String>>) raw.get("rows")).stream()
+                .map(List::copyOf)
+                .collect(Collectors.toUnmodifiableList());
+        DomSnapshot snapshot = new DomSnapshot((String) raw.get("text"), List.copyOf(elements), rows);
+        log.debug("Captured DOM snapshot of {}: {} elements, {} table rows",
+                rootSelector == null ? "body" : rootSelector, elements.size(), rows.size());
+        return snapshot;
+    }
+
+    // Rendered text of the snapshot root (hidden elements excluded)
+    public String text() {
+        return text;
+    }
+
+    public boolean containsText(String fragment) {
+        return text.contains(fragment);
+    }
+
+    public List<Element> elements() {
+        return elements;
+    }
+
+    public List<Element> elements(String tag) {
+        return elements.stream().filter(e -> e.tag().equals(tag)).collect(Collectors.toList());
+    }
+
+    // A visible element of this tag whose own text contains the fragment
+    public boolean hasVisible(String tag, String textFragment) {
+        return elements.stream().anyMatch(e -> e.visible() && e.tag().equals(tag) && e.text().contains(textFragment));
+    }
+
+    public boolean anyAttributeContains(String fragment) {
+        return elements.stream().anyMatch(e -> e.attributes().values().stream().anyMatch(v -> v.contains(fragment))
+                || e.attributes().keySet().stream().anyMatch(k -> k.contains(fragment)));
+    }
+
+    public List<List<String>> tableRows() {
+        return rows;
+    }
+
+    public boolean hasRowWithCell(String cellText) {
+        return rows.stream().anyMatch(r -> r.contains(cellText));
+    }
+
+    public List<String> optionTexts() {
+        return elements("option").stream().map(Element::text).collect(Collectors.toList());
+    }
+
+    public record Element(String tag, Map<String, String> attributes, String text, String value, boolean visible) {
+
+        public String attribute(String name) {
+            return attributes.get(name);
+        }
+
+        public boolean hasClass(String cssClass) {
+            String classes = attributes.get("class");
+            return classes != null && Arrays.asList(classes.trim().split("\\s+")).contains(cssClass);
+        }
+    }
+}
@@ -6,17 +6,95 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.List;
 
 public class PageHelper {
 
     private static final Logger log = LoggerFactory.getLogger(PageHelper.class);
 
+    private static final List<String> STATUS_MESSAGES =
+            List.of("Deposit Successful", "Transaction successful", "Transaction Failed");
+    private static final By STATUS_SPAN = By.cssSelector("span.error");
+    private static final Duration STATUS_TIMEOUT = Duration.ofSeconds(10);
+
+    // arguments[0] = known messages; defines statusText() returning the visible one (or null)
+    private static final String STATUS_JS =
+            "var known = arguments[0];"
+          + "function statusText() {"
+          + "  var spans = document.querySelectorAll('span.error');"
+          + "  for (var i = 0; i < spans.length; i++) {"
+          + "    var t = spans[i].textContent.trim();"
+          + "    if (spans[i].offsetParent === null) continue;"
+          + "    for (var k = 0; k < known.length; k++) if (t.indexOf(known[k]) === 0) return known[k];"
+          + "  }"
+          + "  return null;"
+          + "}";
+
+    private static final String ARM_JS =
+            "var state = window.__xyzStatus;"
+          + "if (state && state.observer) state.observer.disconnect();"
+          + "state = window.__xyzStatus = { text: null, waiter: null };"
+          + "state.observer = new MutationObserver(function () {"
+          + "  var t = statusText();"
+          + "  if (t === null) return;"
+          + "  state.text = t;"
+          + "  state.observer.disconnect();"
+          + "  if (state.waiter) state.waiter(t);"
+          + "});"
+          + "state.observer.observe(document.body,"
+          + "  { subtree: true, childList: true, characterData: true, attributes: true });";
+
+    // arguments[1] = timeout in ms; resolves with the armed message, or the current
+    // one when nothing was armed, or null on timeout. A repeated message (same text
+    // twice in a row) produces no mutation, so the settle check re-reads the span once
+    // Angular reports stable, or with backoff (25, 50, 100, 200 ms) on other pages.
+    private static final String AWAIT_JS =
+            "var done = arguments[arguments.length - 1];"
+          + "var state = window.__xyzStatus;"
+          + "if (state && state.text) { window.__xyzStatus = null; done(state.text); return; }"
+          + "if (!state) {"
+          + "  var now = statusText();"
+          + "  if (now) { done(now); return; }"
+          + "  state = window.__xyzStatus = { text: null, waiter: null };"
+          + "  state.observer = new MutationObserver(function () {"
+          + "    var t = statusText();"
+          + "    if (t !== null && state.waiter) { state.observer.disconnect(); state.waiter(t); }"
+          + "  });"
+          + "  state.observer.observe(document.body,"
+          + "    { subtree: true, childList: true, characterData: true, attributes: true });"
+          + "}"
+          + "var timer = setTimeout(function () { state.waiter(null); }, arguments[1]);"
+          + "var settle = null, delay = 25;"
+          + "function recheck() {"
+          + "  var t = statusText();"
+          + "  if (t !== null) { state.waiter(t); return; }"
+          + "  if ((delay *= 2) <= 200) settle = setTimeout(recheck, delay);"
+          + "}"
+          + "state.waiter = function (t) {"
+          + "  state.waiter = function () {};"
+          + "  clearTimeout(timer); clearTimeout(settle);"
+          + "  state.observer.disconnect(); window.__xyzStatus = null; done(t);"
+          + "};"
+          + "if (window.angular && window.angular.getTestability) {"
+          + "  window.angular.getTestability(document.querySelector('[ng-app],.ng-scope') || document.body)"
+          + "    .whenStable(recheck);"
+          + "} else {"
+          + "  settle = setTimeout(recheck, delay);"
+          + "}";
+
+    // arguments[0] = XPath of an element the route renders; true once the document is
+    // parsed, the app script has run and the view shows that element
+    private static final String APP_READY_JS =
+            "return document.readyState !== 'loading'"
+          + "  && document.evaluate(arguments[0], document, null,"
+          + "       XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue !== null;";
+
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final StableWait wait;
 
     public PageHelper(WebDriver driver) {
         this.driver = driver;
-        this.wait   = new WebDriverWait(driver, Duration.ofSeconds(15));
+        this.wait   = new StableWait(driver, Duration.ofSeconds(15));
     }
 
     public void click(WebElement element) {
@@ -43,7 +121,7 @@ public class PageHelper {
     }
 
     public String acceptAlertAndGetText() {
-        wait.until(ExpectedConditions.alertIsPresent());
+        wait.poll(ExpectedConditions.alertIsPresent());
         String text = driver.switchTo().alert().getText();
         driver.switchTo().alert().accept();
         log.debug("Alert accepted with text: {}", text);
@@ -82,33 +160,71 @@ public class PageHelper {
             } catch (StaleElementReferenceException e) {
                 attempts++;
                 log.warn("StaleElementReferenceException on attempt {}/3", attempts);
-                try { Thread.sleep(500); } catch (InterruptedException ignored) {}
+                wait.awaitStable();
             }
         }
         throw new RuntimeException("Failed to click element after 3 attempts");
     }
 
+    // With the eager/none page-load strategy driver.get returns before the app has
+    // rendered, so navigation is gated on the view instead of the load event
+    public void waitForAppReady(String readyXpath) {
+        wait.poll(d -> ((JavascriptExecutor) d).executeScript(APP_READY_JS, readyXpath));
+        wait.awaitStable();
+        log.debug("App ready: {}", readyXpath);
+    }
+
+    // Installs an in-page MutationObserver that records the next known status
+    // message. Call before the action that triggers it, then waitForStatusMessage().
+    public void armStatusMessage() {
+        try {
+            ((JavascriptExecutor) driver).executeScript(STATUS_JS + ARM_JS, STATUS_MESSAGES);
+            log.debug("Status message observer armed");
+        } catch (WebDriverException e) {
+            log.warn("Could not arm status observer: {}", e.getMessage());
+        }
+    }
+
     public void waitForStatusMessage() {
-        long end = System.currentTimeMillis() + 10_000;
-        while (System.currentTimeMillis() < end) {
-            String source = driver.getPageSource();
-            if (source.contains("Deposit Successful")
-                    || source.contains("Transaction successful")
-                    || source.contains("Transaction Failed")) {
-                log.debug("Status message detected");
-                return;
-            }
-            try { Thread.sleep(300); } catch (InterruptedException ignored) {}
+        String status = null;
+        try {
+            status = (String) ((JavascriptExecutor) driver)
+                    .executeAsyncScript(STATUS_JS + AWAIT_JS, STATUS_MESSAGES, STATUS_TIMEOUT.toMillis());
+        } catch (WebDriverException e) {
+            log.warn("Status observer failed, falling back to element wait: {}", e.getMessage());
+            status = waitForStatusElement();
         }
-        log.warn("No status message appeared within 10 seconds");
+        if (status == null || status.isEmpty()) {
+            log.warn("No status message appeared within {} seconds", STATUS_TIMEOUT.toSeconds());
+            return;
+        }
+        log.debug("Status message detected: {}", status);
     }
 
     public String getStatusMessage() {
-        String source = driver.getPageSource();
-        if (source.contains("Deposit Successful"))    return "Deposit Successful";
-        if (source.contains("Transaction successful")) return "Transaction successful";
-        if (source.contains("Transaction Failed"))    return "Transaction Failed";
-        log.warn("No known status message found in page source");
+        String text = getStatusText();
+        if (text.isEmpty()) log.warn("No known status message found on page");
+        return text;
+    }
+
+    private String waitForStatusElement() {
+        try {
+            return new StableWait(driver, STATUS_TIMEOUT).until(d -> {
+                String text = getStatusText();
+                return text.isEmpty() ? null : text;
+            });
+        } catch (TimeoutException e) {
+            return null;
+        }
+    }
+
+    private String getStatusText() {
+        for (WebElement span : driver.findElements(STATUS_SPAN)) {
+            String text = span.getText().trim();
+            for (String known : STATUS_MESSAGES) {
+                if (text.startsWith(known)) return known;
+            }
+        }
         return "";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.xyzbank.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.Wait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Wait that first lets the app settle, Protractor-style, then checks the condition
+ * with adaptive backoff (10 ms doubling up to 250 ms) instead of a fixed 500 ms tick.
+ * <p>
+ * On AngularJS pages "settled" means the testability API (or, on old versions,
+ * {@code $browser}) reports no outstanding {@code $http} requests or {@code $timeout}s.
+ * Pages without Angular go straight to polling, and once a page is known not to use
+ * Angular the probe is skipped for the rest of this wait's life.
+ */
+public class StableWait implements Wait<WebDriver> {
+
+    private static final Logger log = LoggerFactory.getLogger(StableWait.class);
+
+    private static final long FIRST_POLL_MS = 10;
+    private static final long MAX_POLL_MS   = 250;
+
+    // Resolves with 'angular' once stable, 'none' on a loaded page without Angular,
+    // 'loading' when there is nothing to decide on yet
+    private static final String ANGULAR_STABLE_JS =
+            "var done = arguments[arguments.length - 1];"
+          + "if (!/^https?:/.test(location.protocol) || document.readyState !== 'complete') { done('loading'); return; }"
+          + "var ng = window.angular;"
+          + "if (!ng) { done('none'); return; }"
+          + "try {"
+          + "  var root = document.querySelector('[ng-app],[data-ng-app],.ng-scope') || document.body;"
+          + "  if (ng.getTestability) {"
+          + "    ng.getTestability(root).whenStable(function () { done('angular'); });"
+          + "    return;"
+          + "  }"
+          + "  var injector = ng.element(root).injector();"
+          + "  if (!injector) { done('loading'); return; }"
+          + "  injector.get('$browser').notifyWhenNoOutstandingRequests(function () { done('angular'); });"
+          + "} catch (e) { done('error: ' + e.message); }";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private boolean angularAbsent;
+
+    public StableWait(WebDriver driver, Duration timeout) {
+        this.driver  = driver;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public <T> T until(Function<? super WebDriver, T> condition) {
+        awaitStable();
+        return poll(condition);
+    }
+
+    // Polls without touching the page first — use when an alert may be open, since
+    // running a script then would make Chrome dismiss it
+    public <T> T poll(Function<? super WebDriver, T> condition) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long pause = FIRST_POLL_MS;
+        RuntimeException last = null;
+        while (true) {
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) return value;
+            } catch (NotFoundException e) {
+                last = e;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException(String.format("Expected condition failed: %s (tried for %d ms)",
+                        condition, timeout.toMillis()), last);
+            }
+            sleep(Math.min(pause, Duration.ofNanos(remaining).toMillis() + 1));
+            pause = Math.min(pause * 2, MAX_POLL_MS);
+        }
+    }
+
+    public void awaitStable() {
+        if (angularAbsent) return;
+        try {
+            Object state = ((JavascriptExecutor) driver).executeAsyncScript(ANGULAR_STABLE_JS);
+            if ("none".equals(state)) {
+                angularAbsent = true;
+                log.debug("No AngularJS on page, using backoff polling only");
+            } else if (String.valueOf(state).startsWith("error")) {
+                log.debug("Angular stability probe failed: {}", state);
+            }
+        } catch (WebDriverException e) {
+            log.debug("Angular stability probe skipped: {}", e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.xyzbank.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads whole HTML tables in a single script round trip instead of one
+ * {@code getText()} call per row.
+ */
+public class TableReader {
+
+    private static final Logger log = LoggerFactory.getLogger(TableReader.class);
+
+    public static final String BODY_ROWS = "table tbody tr";
+
+    // arguments[0] = row selector; returns the trimmed cell texts of every non-empty row
+    private static final String READ_ROWS_JS =
+            "var rows = document.querySelectorAll(arguments[0]), out = [];"
+          + "for (var i = 0; i < rows.length; i++) {"
+          + "  var cells = rows[i].cells, row = [], empty = true;"
+          + "  for (var j = 0; j < cells.length; j++) {"
+          + "    var t = cells[j].textContent.replace(/\\s+/g, ' ').trim();"
+          + "    if (t) empty = false;"
+          + "    row.push(t);"
+          + "  }"
+          + "  if (!empty) out.push(row);"
+          + "}"
+          + "return out;";
+
+    // arguments[0] = row selector, [1] = text, [2] = CSS selector inside the row;
+    // returns the matching element of the first row containing the text, or null
+    private static final String FIND_IN_ROW_JS =
+            "var rows = document.querySelectorAll(arguments[0]);"
+          + "for (var i = 0; i < rows.length; i++) {"
+          + "  if (rows[i].textContent.indexOf(arguments[1]) >= 0) return rows[i].querySelector(arguments[2]);"
+          + "}"
+          + "return null;";
+
+    private final WebDriver driver;
+
+    public TableReader(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<List<String>> readRows(String rowSelector) {
+        List<List<String>> rows = new ArrayList<>();
+        Object result = ((JavascriptExecutor) driver).executeScript(READ_ROWS_JS, rowSelector);
+        if (result instanceof List) {
+            for (Object row : (List<Object>) result) {
+                List<String> cells = new ArrayList<>();
+                for (Object cell : (List<Object>) row) cells.add(String.valueOf(cell));
+                rows.add(cells);
+            }
+        }
+        log.debug("Read {} table rows for '{}'", rows.size(), rowSelector);
+        return rows;
+    }
+
+    public WebElement findInRow(String rowSelector, String rowText, String cssInRow) {
+        return (WebElement) ((JavascriptExecutor) driver)
+                .executeScript(FIND_IN_ROW_JS, rowSelector, rowText, cssInRow);
+    }
+}
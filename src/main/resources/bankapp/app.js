@@ -0,0 +1,394 @@
+/*
+ * Local stand-in for the XYZ Bank AngularJS demo app.
+ *
+ * Same hash routes, element structure and messages as the public app, so the
+ * page objects work unchanged. State lives in localStorage under the keys
+ * User, Account and Transaction; the logged-in customer lives in
+ * sessionStorage under Session.
+ */
+(function () {
+    'use strict';
+
+    var SEED_USERS = [
+        { fName: 'Hermoine', lName: 'Granger',    postCd: 'E859AB', accounts: [[1001, 'Dollar', 5096], [1002, 'Pound', 0], [1003, 'Rupee', 0]] },
+        { fName: 'Harry',    lName: 'Potter',     postCd: 'E725JB', accounts: [[1004, 'Dollar', 0], [1005, 'Pound', 0], [1006, 'Rupee', 0]] },
+        { fName: 'Ron',      lName: 'Weasly',     postCd: 'E55656', accounts: [[1007, 'Dollar', 0], [1008, 'Pound', 0], [1009, 'Rupee', 0]] },
+        { fName: 'Albus',    lName: 'Dumbledore', postCd: 'E55555', accounts: [[1010, 'Dollar', 0], [1011, 'Pound', 0], [1012, 'Rupee', 0]] },
+        { fName: 'Neville',  lName: 'Longbottom', postCd: 'E89898', accounts: [[1013, 'Dollar', 0], [1014, 'Pound', 0], [1015, 'Rupee', 0]] }
+    ];
+    var CURRENCIES = ['Dollar', 'Pound', 'Rupee'];
+
+    // ── Storage ──────────────────────────────────────────────────────────
+
+    function load(key) {
+        var raw = localStorage.getItem(key);
+        return raw ? JSON.parse(raw) : {};
+    }
+
+    function save(key, value) {
+        localStorage.setItem(key, JSON.stringify(value));
+    }
+
+    function seed() {
+        if (localStorage.getItem('User')) return;
+        var users = {}, accounts = {}, now = new Date().toISOString();
+        SEED_USERS.forEach(function (u, i) {
+            var id = i + 1;
+            users[id] = { id: id, fName: u.fName, lName: u.lName, postCd: u.postCd, accountNo: [], date: now };
+            u.accounts.forEach(function (a) {
+                users[id].accountNo.push(a[0]);
+                accounts[a[0]] = { accountNo: a[0], currency: a[1], amount: a[2], customerId: id, date: now };
+            });
+        });
+        save('User', users);
+        save('Account', accounts);
+        save('Transaction', {});
+    }
+
+    function session() {
+        var raw = sessionStorage.getItem('Session');
+        return raw ? JSON.parse(raw) : null;
+    }
+
+    function setSession(value) {
+        if (value) sessionStorage.setItem('Session', JSON.stringify(value));
+        else sessionStorage.removeItem('Session');
+    }
+
+    function nextId(map, start) {
+        var max = start;
+        Object.keys(map).forEach(function (k) { max = Math.max(max, Number(k)); });
+        return max + 1;
+    }
+
+    function fullName(u) {
+        return u.fName + ' ' + u.lName;
+    }
+
+    function users() {
+        var map = load('User');
+        return Object.keys(map).map(function (k) { return map[k]; })
+            .sort(function (a, b) { return a.id - b.id; });
+    }
+
+    // ── Rendering helpers ────────────────────────────────────────────────
+
+    var view = document.getElementById('view');
+    var logoutBtn = document.getElementById('logoutBtn');
+
+    function esc(s) {
+        return String(s).replace(/[&<>"']/g, function (c) {
+            return { '&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;', "'": '&#39;' }[c];
+        });
+    }
+
+    function option(value, text) {
+        return '<option value="' + esc(value) + '">' + esc(text) + '</option>';
+    }
+
+    function go(route) {
+        location.hash = '#/' + route;
+    }
+
+    function formatDate(iso) {
+        return new Date(iso).toLocaleString('en-US', {
+            month: 'short', day: 'numeric', year: 'numeric',
+            hour: 'numeric', minute: '2-digit', second: '2-digit'
+        });
+    }
+
+    // ── Home ─────────────────────────────────────────────────────────────
+
+    function renderLogin() {
+        view.innerHTML =
+            '<div class="borderM box padT20">' +
+            '  <div class="center"><button class="btn btn-primary btn-lg" id="customerLogin">Customer Login</button></div>' +
+            '  <div class="center"><button class="btn btn-primary btn-lg" id="managerLogin">Bank Manager Login</button></div>' +
+            '</div>';
+        document.getElementById('customerLogin').onclick = function () { go('customer'); };
+        document.getElementById('managerLogin').onclick = function () { go('manager'); };
+    }
+
+    // ── Customer ─────────────────────────────────────────────────────────
+
+    function renderCustomerLogin() {
+        var options = option('', '---Your Name---');
+        users().forEach(function (u) {
+            if (u.accountNo.length > 0) options += option(u.id, fullName(u));
+        });
+        view.innerHTML =
+            '<div class="borderM box padT20">' +
+            '  <form name="myForm" id="customerForm">' +
+            '    <div class="form-group"><label>Your Name :</label>' +
+            '      <select class="form-control" id="userSelect" ng-model="custId" required>' + options + '</select></div>' +
+            '    <button type="submit" class="btn btn-default" id="loginSubmit" style="display: none">Login</button>' +
+            '  </form>' +
+            '</div>';
+        var select = document.getElementById('userSelect');
+        var login = document.getElementById('loginSubmit');
+        select.onchange = function () { login.style.display = select.value ? '' : 'none'; };
+        document.getElementById('customerForm').onsubmit = function (e) {
+            e.preventDefault();
+            if (!select.value) return;
+            setSession({ customerId: Number(select.value), accountNo: null });
+            go('account');
+        };
+    }
+
+    function renderAccount(tab, message) {
+        var s = session();
+        var user = s && load('User')[s.customerId];
+        if (!user) { go('customer'); return; }
+        var accounts = load('Account');
+        var current = accounts[s.accountNo] ? accounts[s.accountNo] : accounts[user.accountNo[0]];
+        if (current && s.accountNo !== current.accountNo) {
+            s.accountNo = current.accountNo;
+            setSession(s);
+        }
+
+        var options = option('', '---Select Account---');
+        user.accountNo.forEach(function (no) { options += option(no, no); });
+
+        var form = '';
+        if (tab === 'deposit' || tab === 'withdraw') {
+            var deposit = tab === 'deposit';
+            form =
+                '<div class="container-fluid mainBox"><form name="myForm" id="amountForm">' +
+                '  <div class="form-group"><label>Amount to be ' + (deposit ? 'Deposited' : 'Withdrawn') + ' :</label>' +
+                '    <input type="number" class="form-control" ng-model="amount" placeholder="amount" required></div>' +
+                '  <button type="submit" class="btn btn-default">' + (deposit ? 'Deposit' : 'Withdraw') + '</button>' +
+                '</form></div>';
+        }
+
+        view.innerHTML =
+            '<div class="borderM box padT20">' +
+            '  <div class="center"><strong>Welcome <span class="fontBig ng-binding">' + esc(fullName(user)) + '</span> !!</strong></div>' +
+            '  <select id="accountSelect" ng-model="accountNo">' + options + '</select>' +
+            (current
+                ? '  <div class="center">Account Number : <strong class="ng-binding">' + current.accountNo + '</strong> , ' +
+                  'Balance : <strong class="ng-binding">' + current.amount + '</strong> , ' +
+                  'Currency : <strong class="ng-binding">' + esc(current.currency) + '</strong></div>'
+                : '') +
+            '  <div class="center">' +
+            '    <button class="btn btn-lg tab" id="txTab">Transactions</button>' +
+            '    <button class="btn btn-lg tab" id="depositTab">Deposit</button>' +
+            '    <button class="btn btn-lg tab" id="withdrawTab">Withdrawl</button>' +
+            '  </div>' +
+            form +
+            '  <span class="error ng-binding" ng-show="message"' + (message ? '' : ' style="display: none"') + '>' +
+            esc(message || '') + '</span>' +
+            '</div>';
+
+        var select = document.getElementById('accountSelect');
+        if (current) select.value = String(current.accountNo);
+        select.onchange = function () {
+            if (!select.value) return;
+            s.accountNo = Number(select.value);
+            setSession(s);
+            renderAccount(tab, '');
+        };
+        document.getElementById('txTab').onclick = function () { go('listTx'); };
+        document.getElementById('depositTab').onclick = function () { renderAccount('deposit', ''); };
+        document.getElementById('withdrawTab').onclick = function () { renderAccount('withdraw', ''); };
+
+        var amountForm = document.getElementById('amountForm');
+        if (amountForm) {
+            amountForm.onsubmit = function (e) {
+                e.preventDefault();
+                var amount = Number(amountForm.querySelector('input').value);
+                renderAccount(tab, transact(current.accountNo, tab, amount));
+            };
+        }
+    }
+
+    function transact(accountNo, tab, amount) {
+        var accounts = load('Account');
+        var account = accounts[accountNo];
+        if (tab === 'withdraw' && amount > account.amount) {
+            return 'Transaction Failed. You can not withdraw amount more than the balance.';
+        }
+        if (amount > 0) {
+            account.amount += tab === 'deposit' ? amount : -amount;
+            save('Account', accounts);
+            var txs = load('Transaction');
+            (txs[accountNo] = txs[accountNo] || []).push({
+                amount: amount, date: new Date().toISOString(), type: tab === 'deposit' ? 'Credit' : 'Debit'
+            });
+            save('Transaction', txs);
+        }
+        return tab === 'deposit' ? 'Deposit Successful' : 'Transaction successful';
+    }
+
+    function renderTransactions() {
+        var s = session();
+        if (!s || !s.accountNo) { go('customer'); return; }
+        var rows = (load('Transaction')[s.accountNo] || []).map(function (t, i) {
+            return '<tr id="anchor' + i + '"><td>' + esc(formatDate(t.date)) + '</td><td>' + t.amount +
+                '</td><td>' + t.type + '</td></tr>';
+        });
+        view.innerHTML =
+            '<div class="borderM box padT20">' +
+            '  <button class="btn" id="backBtn">Back</button>' +
+            '  <button class="btn" id="resetBtn"' + (rows.length ? '' : ' style="display: none"') + '>Reset</button>' +
+            '  <table class="table table-bordered table-striped"><thead><tr>' +
+            '    <td>Date-Time</td><td>Amount</td><td>Transaction Type</td>' +
+            '  </tr></thead><tbody>' + rows.join('') + '</tbody></table>' +
+            '</div>';
+        document.getElementById('backBtn').onclick = function () { go('account'); };
+        document.getElementById('resetBtn').onclick = function () {
+            var txs = load('Transaction');
+            delete txs[s.accountNo];
+            save('Transaction', txs);
+            var accounts = load('Account');
+            accounts[s.accountNo].amount = 0;
+            save('Account', accounts);
+            renderTransactions();
+        };
+    }
+
+    // ── Manager ──────────────────────────────────────────────────────────
+
+    function renderManager(sub) {
+        var body = '';
+        if (sub === 'addCust') {
+            body =
+                '<form name="myForm" id="addCustForm">' +
+                '  <div class="form-group"><label>First Name :</label><input type="text" class="form-control" ng-model="fName" placeholder="First Name" required></div>' +
+                '  <div class="form-group"><label>Last Name :</label><input type="text" class="form-control" ng-model="lName" placeholder="Last Name" required></div>' +
+                '  <div class="form-group"><label>Post Code :</label><input type="text" class="form-control" ng-model="postCd" placeholder="Post Code" required></div>' +
+                '  <button type="submit" class="btn btn-default">Add Customer</button>' +
+                '</form>';
+        } else if (sub === 'openAccount') {
+            var customers = option('', '---Customer Name---');
+            users().forEach(function (u) { customers += option(u.id, fullName(u)); });
+            var currencies = option('', '---Currency---');
+            CURRENCIES.forEach(function (c) { currencies += option(c, c); });
+            body =
+                '<form name="myForm" id="openAccountForm">' +
+                '  <div class="form-group"><label>Customer :</label><select id="userSelect" ng-model="custId" required>' + customers + '</select></div>' +
+                '  <div class="form-group"><label>Currency :</label><select id="currency" ng-model="currency" required>' + currencies + '</select></div>' +
+                '  <button type="submit">Process</button>' +
+                '</form>';
+        } else if (sub === 'list') {
+            body =
+                '<form><div class="input-group"><input type="text" class="form-control" ng-model="searchCustomer" placeholder="Search Customer"></div></form>' +
+                '<table class="table table-bordered table-striped"><thead><tr>' +
+                '  <td>First Name</td><td>Last Name</td><td>Post Code</td><td>Account Number</td><td>Delete Customer</td>' +
+                '</tr></thead><tbody id="customerRows"></tbody></table>';
+        }
+
+        view.innerHTML =
+            '<div class="borderM box padT20">' +
+            '  <div class="center">' +
+            '    <button class="btn btn-lg tab" id="addCustTab">Add Customer</button>' +
+            '    <button class="btn btn-lg tab" id="openAccountTab">Open Account</button>' +
+            '    <button class="btn btn-lg tab" id="customersTab">Customers</button>' +
+            '  </div>' +
+            '  <div class="ng-scope">' + body + '</div>' +
+            '</div>';
+
+        document.getElementById('addCustTab').onclick = function () { go('manager/addCust'); };
+        document.getElementById('openAccountTab').onclick = function () { go('manager/openAccount'); };
+        document.getElementById('customersTab').onclick = function () { go('manager/list'); };
+
+        if (sub === 'addCust') bindAddCustomer();
+        if (sub === 'openAccount') bindOpenAccount();
+        if (sub === 'list') bindCustomerList();
+    }
+
+    function bindAddCustomer() {
+        var form = document.getElementById('addCustForm');
+        form.onsubmit = function (e) {
+            e.preventDefault();
+            var inputs = form.querySelectorAll('input');
+            var fName = inputs[0].value, lName = inputs[1].value, postCd = inputs[2].value;
+            var map = load('User');
+            var duplicate = users().some(function (u) {
+                return u.fName === fName && u.lName === lName && u.postCd === postCd;
+            });
+            if (duplicate) {
+                alert('Please check the details. Customer may be duplicate.');
+                return;
+            }
+            var id = nextId(map, 0);
+            map[id] = { id: id, fName: fName, lName: lName, postCd: postCd, accountNo: [], date: new Date().toISOString() };
+            save('User', map);
+            form.reset();
+            alert('Customer added successfully with customer id :' + id);
+        };
+    }
+
+    function bindOpenAccount() {
+        var form = document.getElementById('openAccountForm');
+        form.onsubmit = function (e) {
+            e.preventDefault();
+            var custId = document.getElementById('userSelect').value;
+            var currency = document.getElementById('currency').value;
+            if (!custId || !currency) return;
+            var map = load('User');
+            var accounts = load('Account');
+            var accountNo = nextId(accounts, 1000);
+            accounts[accountNo] = { accountNo: accountNo, currency: currency, amount: 0, customerId: Number(custId), date: new Date().toISOString() };
+            map[custId].accountNo.push(accountNo);
+            save('Account', accounts);
+            save('User', map);
+            form.reset();
+            alert('Account created successfully with account Number :' + accountNo);
+        };
+    }
+
+    function bindCustomerList() {
+        var search = document.querySelector('input[placeholder="Search Customer"]');
+        var tbody = document.getElementById('customerRows');
+
+        function render() {
+            var q = search.value.toLowerCase();
+            tbody.innerHTML = users().filter(function (u) {
+                return !q || [u.fName, u.lName, u.postCd, u.accountNo.join(' ')].join(' ').toLowerCase().indexOf(q) >= 0;
+            }).map(function (u) {
+                return '<tr><td>' + esc(u.fName) + '</td><td>' + esc(u.lName) + '</td><td>' + esc(u.postCd) +
+                    '</td><td><span>' + u.accountNo.join(' ') + '</span></td>' +
+                    '<td><button data-id="' + u.id + '">Delete</button></td></tr>';
+            }).join('');
+        }
+
+        search.oninput = render;
+        tbody.onclick = function (e) {
+            var id = e.target.getAttribute('data-id');
+            if (!id) return;
+            var map = load('User');
+            var accounts = load('Account');
+            var txs = load('Transaction');
+            map[id].accountNo.forEach(function (no) { delete accounts[no]; delete txs[no]; });
+            delete map[id];
+            save('User', map);
+            save('Account', accounts);
+            save('Transaction', txs);
+            render();
+        };
+        render();
+    }
+
+    // ── Router ───────────────────────────────────────────────────────────
+
+    function route() {
+        var path = location.hash.replace(/^#\/?/, '') || 'login';
+        var loggedIn = !!session();
+        logoutBtn.style.display = loggedIn && (path === 'account' || path === 'listTx') ? '' : 'none';
+
+        if (path === 'login') renderLogin();
+        else if (path === 'customer') renderCustomerLogin();
+        else if (path === 'account') renderAccount(null, '');
+        else if (path === 'listTx') renderTransactions();
+        else if (path === 'manager') renderManager(null);
+        else if (path.indexOf('manager/') === 0) renderManager(path.substring('manager/'.length));
+        else go('login');
+    }
+
+    document.getElementById('homeBtn').onclick = function () { setSession(null); go('login'); };
+    logoutBtn.onclick = function () { setSession(null); go('customer'); };
+
+    seed();
+    window.addEventListener('hashchange', route);
+    route();
+})();
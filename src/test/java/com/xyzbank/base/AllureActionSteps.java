@@ -0,0 +1,52 @@
+package com.xyzbank.base;
+
+import com.xyzbank.metrics.ActionListener;
+import com.xyzbank.metrics.Budgets;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Reports every timed page-object action as an Allure step carrying its duration, e.g.
+ * "deposit: 412 ms (budget 800 ms)". Over-budget steps are marked failed with
+ * {@code -Dbudget.mode=fail} and broken otherwise; actions that threw are marked broken.
+ */
+class AllureActionSteps implements ActionListener {
+
+    @Override
+    public void started(String action) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCase().isPresent()) {
+            lifecycle.startStep(UUID.randomUUID().toString(), new StepResult().setName(action));
+        }
+    }
+
+    @Override
+    public void finished(String action, double millis, long budgetMillis, boolean completed, boolean overBudget) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (lifecycle.getCurrentTestCase().isEmpty()) {
+            return;
+        }
+        String name = budgetMillis > 0
+                ? String.format(Locale.ROOT, "%s: %.0f ms (budget %d ms)", action, millis, budgetMillis)
+                : String.format(Locale.ROOT, "%s: %.0f ms", action, millis);
+        lifecycle.updateStep(step -> {
+            step.setName(name);
+            if (!completed) {
+                step.setStatus(Status.BROKEN);
+                step.setStatusDetails(new StatusDetails().setMessage("Did not complete"));
+            } else if (overBudget) {
+                step.setStatus(Budgets.failing() ? Status.FAILED : Status.BROKEN);
+                step.setStatusDetails(new StatusDetails().setMessage("Over the " + budgetMillis + " ms budget"));
+            } else {
+                step.setStatus(Status.PASSED);
+            }
+        });
+        lifecycle.stopStep();
+    }
+}
@@ -4,80 +4,169 @@ import com.xyzbank.pages.home.HomePage;
 import com.xyzbank.pages.customer.CustomerLoginPage;
 import com.xyzbank.pages.customer.AccountPage;
 import com.xyzbank.pages.manger.ManagerPage;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import io.qameta.allure.Attachment;
+import com.xyzbank.app.BankApp;
+import com.xyzbank.app.BankStore;
+import com.xyzbank.app.SeedCustomer;
+import com.xyzbank.driver.ChromeTrace;
+import com.xyzbank.driver.DriverPool;
+import com.xyzbank.driver.Emulation;
+import com.xyzbank.driver.EmulationProfile;
+import com.xyzbank.metrics.ActionTimer;
+import com.xyzbank.metrics.Budgets;
+import com.xyzbank.metrics.LatencyRecorder;
+import com.xyzbank.metrics.Metrics;
+import com.xyzbank.metrics.PageTimings;
+import com.xyzbank.testdata.TestData;
+import io.qameta.allure.Allure;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInfo;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+@ExtendWith(ScreenshotExtension.class)
 public class BaseTest {
 
     protected static final Logger log = LoggerFactory.getLogger(BaseTest.class);
 
-    protected WebDriver driver;
-    protected HomePage homePage;
-    protected CustomerLoginPage customerLoginPage;
-    protected AccountPage accountPage;
-    protected ManagerPage managerPage;
-
-    private static WebDriver createDriver() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        options.addArguments("--start-maximized");
-        options.addArguments("--disable-notifications");
-
-        if (Boolean.parseBoolean(System.getProperty("headless", "false"))) {
-            options.addArguments("--headless=new");
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-            options.addArguments("--window-size=1920,1080");
-        }
+    // One driver + page-object set per worker thread when running in parallel
+    private static final ThreadLocal<TestSession> SESSION = new ThreadLocal<>();
 
-        return new ChromeDriver(options);
+    // -Dtrace=true records a Chrome trace for every test, @Trace for selected ones
+    private static final boolean TRACE_ALL = Boolean.parseBoolean(System.getProperty("trace", "false"));
+
+    static {
+        ActionTimer.setListener(new AllureActionSteps());
     }
 
+    protected WebDriver driver;
+    private ChromeTrace trace;
+
     @BeforeEach
     public void setUp(TestInfo testInfo) {
         log.info("========== START: {} ==========", testInfo.getDisplayName());
-        driver = createDriver();
+        Metrics.startTest(testInfo.getDisplayName());
+        PageTimings.startTest(testInfo.getDisplayName());
+        TestSession session = new TestSession(DriverPool.acquire());
+        SESSION.set(session);
 
-        homePage          = new HomePage(driver);
-        customerLoginPage = new CustomerLoginPage(driver);
-        accountPage       = new AccountPage(driver);
-        managerPage       = new ManagerPage(driver);
+        driver = session.driver();
+        Set<EmulationProfile> profiles = emulation(testInfo);
+        Emulation.apply(driver, profiles);
+        if (profiles.isEmpty()) {
+            Budgets.startTest();
+        } else {
+            // Budgets and baselines describe desktop speed
+            Metrics.excludeFromBaseline();
+            Allure.parameter("emulation", EmulationProfile.label(profiles));
+        }
+        trace = tracing(testInfo) ? ChromeTrace.start(driver) : null;
 
-        homePage.open();
-        log.debug("Browser opened and all pages initialized");
+        homePage().open();
+        log.debug("Browser opened, pages are created on first use");
     }
 
     @AfterEach
     public void tearDown(TestInfo testInfo) {
-        log.debug("Taking screenshot before closing browser...");
-        captureScreenshot();
-        if (driver != null) {
-            driver.quit();
-            driver = null;
-            log.debug("WebDriver closed");
+        if (trace != null) {
+            try {
+                TraceWriter.attach(testInfo.getDisplayName(), trace.stop());
+            } catch (RuntimeException e) {
+                log.warn("Could not collect the trace for {}: {}", testInfo.getDisplayName(), e.toString());
+            } finally {
+                trace = null;
+            }
+        }
+        try {
+            TestSession session = SESSION.get();
+            if (session != null) session.close();
+        } finally {
+            if (driver != null) {
+                DriverPool.release(driver);
+                driver = null;
+            }
+            SESSION.remove();
         }
+        LatencyRecorder latency = Metrics.endTest();
+        attachLatency(latency);
+        attachPageTimings(PageTimings.endTest());
+        List<String> violations = Budgets.endTest(latency);
         log.info("========== END: {} ==========", testInfo.getDisplayName());
+        if (Budgets.failing() && !violations.isEmpty()) {
+            fail("Performance budget exceeded:\n  " + String.join("\n  ", violations));
+        }
     }
 
-    @Attachment(value = "Screenshot", type = "image/png")
-    public byte[] captureScreenshot() {
+    protected static TestSession session() {
+        return SESSION.get();
+    }
+
+    // Switches the running test to other profiles; from here on budgets no longer apply
+    protected void emulate(Set<EmulationProfile> profiles) {
+        Emulation.apply(driver, profiles);
+        if (!profiles.isEmpty()) Budgets.suspend();
+    }
+
+    // A new customer with an empty Dollar account, left on the home page. Seeded straight into
+    // the bundled app's storage; through the manager's Add Customer and Open Account screens
+    // when viaUi is set or the app is not the bundled one. Returns the customer's full name.
+    protected String createCustomerWithAccount(boolean viaUi) {
+        String first = TestData.uniqueFirst();
+        String last  = TestData.uniqueLast();
+        if (viaUi || !BankApp.isLocal()) {
+            homePage().clickManagerLogin();
+            managerPage().addCustomer(first, last, TestData.uniquePostcode());
+            managerPage().openAccount(TestData.fullName(first, last), TestData.DOLLAR);
+            homePage().open();
+        } else {
+            new BankStore(driver).seed(List.of(
+                    SeedCustomer.withAccount(first, last, TestData.uniquePostcode(), TestData.DOLLAR, 0)));
+        }
+        return TestData.fullName(first, last);
+    }
+
+    protected HomePage homePage()                   { return session().homePage(); }
+    protected CustomerLoginPage customerLoginPage() { return session().customerLoginPage(); }
+    protected AccountPage accountPage()             { return session().accountPage(); }
+    protected ManagerPage managerPage()             { return session().managerPage(); }
+
+    private static Set<EmulationProfile> emulation(TestInfo testInfo) {
+        return testInfo.getTestMethod().map(m -> m.getAnnotation(Emulate.class))
+                .or(() -> testInfo.getTestClass().map(c -> c.getAnnotation(Emulate.class)))
+                .map(emulate -> EmulationProfile.parse(emulate.value()))
+                .orElse(Emulation.RUN);
+    }
+
+    private static boolean tracing(TestInfo testInfo) {
+        return TRACE_ALL
+                || testInfo.getTestMethod().map(m -> m.isAnnotationPresent(Trace.class)).orElse(false)
+                || testInfo.getTestClass().map(c -> c.isAnnotationPresent(Trace.class)).orElse(false);
+    }
+
+    private static void attachLatency(LatencyRecorder recorder) {
+        if (recorder != null && !recorder.isEmpty()) {
+            Allure.addAttachment("Command latency", "application/json", recorder.toJson(), ".json");
+        }
+    }
+
+    private static void attachPageTimings(PageTimings timings) {
+        if (timings == null || timings.isEmpty()) {
+            return;
+        }
+        String json = timings.toJson();
+        Allure.addAttachment("Page timings", "application/json", json, ".json");
         try {
-            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-            log.debug("Screenshot captured successfully");
-            return screenshot;
-        } catch (Exception e) {
-            log.warn("Failed to capture screenshot: {}", e.getMessage());
-            return new byte[0];
+            timings.write();
+        } catch (IOException e) {
+            log.warn("Failed to write page timings: {}", e.getMessage());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.xyzbank.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a test (or every test of a class) under {@link com.xyzbank.driver.EmulationProfile}s,
+ * e.g. {@code @Emulate("slow-4g,cpu-4x")}, instead of the run-wide {@code -Demulation}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Emulate {
+
+    String value();
+}
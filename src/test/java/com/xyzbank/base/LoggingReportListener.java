@@ -0,0 +1,18 @@
+package com.xyzbank.base;
+
+import com.xyzbank.logging.LoggingOverhead;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Writes the {@link LoggingOverhead} report when the test plan finishes, before the JVM
+ * starts shutting down and logback stops its appenders. Registered through
+ * {@code META-INF/services}.
+ */
+public class LoggingReportListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        LoggingOverhead.writeReport();
+    }
+}
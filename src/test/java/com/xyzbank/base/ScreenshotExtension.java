@@ -0,0 +1,55 @@
+package com.xyzbank.base;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Takes screenshots according to {@link ScreenshotPolicy}: at the moment a test or its
+ * setup fails, and after passing tests when the policy asks for it.
+ */
+public class ScreenshotExtension implements TestExecutionExceptionHandler,
+        LifecycleMethodExecutionExceptionHandler, AfterTestExecutionCallback {
+
+    private static final Logger log = LoggerFactory.getLogger(ScreenshotExtension.class);
+
+    private final ScreenshotPolicy policy = ScreenshotPolicy.current();
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        if (policy.captureOnFailure()) capture("Screenshot on failure");
+        throw throwable;
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        if (policy.captureOnFailure()) capture("Screenshot on setup failure");
+        throw throwable;
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isEmpty() && policy.captureOnSuccess()) {
+            capture("Screenshot");
+        }
+    }
+
+    private void capture(String name) {
+        TestSession session = BaseTest.session();
+        if (session == null) {
+            return;
+        }
+        try {
+            byte[] png = ((TakesScreenshot) session.driver()).getScreenshotAs(OutputType.BYTES);
+            ScreenshotWriter.attach(name, png);
+            log.debug("{} captured", name);
+        } catch (Exception e) {
+            log.warn("Failed to capture screenshot: {}", e.getMessage());
+        }
+    }
+}
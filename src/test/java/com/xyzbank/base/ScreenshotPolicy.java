@@ -0,0 +1,37 @@
+package com.xyzbank.base;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When a screenshot is taken for a finished test, set with {@code -Dscreenshot.policy}.
+ * SAMPLED captures every failure plus a random share of passing tests
+ * ({@code -Dscreenshot.sample.rate}, default 0.1).
+ */
+public enum ScreenshotPolicy {
+
+    ALWAYS,
+    ON_FAILURE,
+    SAMPLED,
+    NEVER;
+
+    private static final double SAMPLE_RATE =
+            Double.parseDouble(System.getProperty("screenshot.sample.rate", "0.1"));
+
+    public static ScreenshotPolicy current() {
+        String value = System.getProperty("screenshot.policy", "on_failure");
+        return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+    }
+
+    public boolean captureOnFailure() {
+        return this != NEVER;
+    }
+
+    public boolean captureOnSuccess() {
+        switch (this) {
+            case ALWAYS:  return true;
+            case SAMPLED: return ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE;
+            default:      return false;
+        }
+    }
+}
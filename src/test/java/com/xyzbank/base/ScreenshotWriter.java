@@ -0,0 +1,118 @@
+package com.xyzbank.base;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Attachment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attaches screenshots to the current Allure test without blocking the test thread.
+ * <p>
+ * The test thread only hashes the raw PNG and registers the attachment; decoding,
+ * downscaling ({@code -Dscreenshot.scale}, default 0.5) and writing happen on a
+ * background executor. Files are named by content hash, so identical images are
+ * written once and shared by every test that produced them.
+ */
+public class ScreenshotWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ScreenshotWriter.class);
+
+    private static final double SCALE =
+            Double.parseDouble(System.getProperty("screenshot.scale", "0.5"));
+    private static final Path RESULTS_DIR =
+            Paths.get(System.getProperty("allure.results.directory", "target/allure-results"));
+
+    private static final Set<String> written = ConcurrentHashMap.newKeySet();
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "screenshot-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ScreenshotWriter::flush, "screenshot-writer-flush"));
+    }
+
+    private ScreenshotWriter() {
+    }
+
+    public static void attach(String name, byte[] png) {
+        if (png == null || png.length == 0) {
+            return;
+        }
+        String fileName = sha256(png) + "-attachment.png";
+        Allure.getLifecycle().updateTestCase(result -> result.getAttachments().add(
+                new Attachment().setName(name).setType("image/png").setSource(fileName)));
+
+        if (!written.add(fileName)) {
+            log.debug("Screenshot {} already written - reusing it", fileName);
+            return;
+        }
+        executor.execute(() -> write(fileName, png));
+    }
+
+    private static void write(String fileName, byte[] png) {
+        try {
+            Files.createDirectories(RESULTS_DIR);
+            Path target = RESULTS_DIR.resolve(fileName);
+            BufferedImage image = SCALE < 1.0 ? ImageIO.read(new ByteArrayInputStream(png)) : null;
+            if (image == null) {
+                Files.write(target, png);
+            } else {
+                ImageIO.write(downscale(image), "png", target.toFile());
+            }
+            log.debug("Screenshot written to {}", target);
+        } catch (IOException e) {
+            written.remove(fileName);
+            log.warn("Failed to write screenshot {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    private static BufferedImage downscale(BufferedImage source) {
+        int width  = Math.max(1, (int) (source.getWidth() * SCALE));
+        int height = Math.max(1, (int) (source.getHeight() * SCALE));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return scaled;
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void flush() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Screenshot writer did not finish within 30 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
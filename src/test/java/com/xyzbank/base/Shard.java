@@ -0,0 +1,33 @@
+package com.xyzbank.base;
+
+/**
+ * Which slice of the suite this JVM runs: {@code -Dshard.index} (0-based) of {@code -Dshard.total},
+ * falling back to the {@code SHARD_INDEX} / {@code SHARD_TOTAL} environment variables so a
+ * container can be pointed at its shard without changing the command line.
+ */
+record Shard(int index, int total) {
+
+    Shard {
+        if (total < 1 || index < 0 || index >= total) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + total);
+        }
+    }
+
+    static Shard current() {
+        return new Shard(setting("shard.index", "SHARD_INDEX", 0), setting("shard.total", "SHARD_TOTAL", 1));
+    }
+
+    boolean enabled() {
+        return total > 1;
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + total;
+    }
+
+    private static int setting(String property, String env, int fallback) {
+        String value = System.getProperty(property, System.getenv(env));
+        return value == null || value.isBlank() ? fallback : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,124 @@
+package com.xyzbank.base;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps only the test classes assigned to this JVM's {@link Shard}.
+ * <p>
+ * Classes are packed into shards greedily, longest first onto the least loaded shard, using
+ * durations recorded by {@link TimingListener}. A class's estimate is the sum of its tests'
+ * recorded times, with the median test time standing in for tests that have no history yet.
+ * Every shard computes the same plan from the same timings, so the shards together run each
+ * class exactly once. Registered through {@code META-INF/services}; a no-op unless sharded.
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardFilter.class);
+
+    // Used per test when there is no history at all
+    private static final long DEFAULT_TEST_MILLIS = 1_000;
+
+    private final Shard shard = Shard.current();
+    private final Map<UniqueId, Map<String, Integer>> plans = new ConcurrentHashMap<>();
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!shard.enabled()) {
+            return FilterResult.included("sharding disabled");
+        }
+        Optional<String> testClass = topLevelClass(descriptor.getSource().orElse(null));
+        if (testClass.isEmpty()) {
+            return FilterResult.included("not a test class");
+        }
+        TestDescriptor root = descriptor;
+        while (root.getParent().isPresent()) {
+            root = root.getParent().get();
+        }
+        TestDescriptor engine = root;
+        Integer assigned = plans.computeIfAbsent(engine.getUniqueId(), id -> plan(engine)).get(testClass.get());
+        return assigned == null || assigned == shard.index()
+                ? FilterResult.included("in shard " + shard)
+                : FilterResult.excluded("assigned to shard " + (assigned + 1) + "/" + shard.total());
+    }
+
+    private Map<String, Integer> plan(TestDescriptor root) {
+        Map<String, List<String>> testsByClass = new TreeMap<>();
+        for (TestDescriptor descendant : root.getDescendants()) {
+            if (descendant.getSource().orElse(null) instanceof MethodSource method) {
+                testsByClass.computeIfAbsent(topLevelClass(method).orElseThrow(), c -> new ArrayList<>())
+                        .add(TestTimings.key(method.getClassName(), method.getMethodName()));
+            }
+        }
+        Map<String, Long> timings = TestTimings.load();
+        Map<String, Long> estimates = new HashMap<>();
+        long median = median(timings);
+        testsByClass.forEach((testClass, tests) -> estimates.put(testClass,
+                tests.stream().distinct().mapToLong(test -> timings.getOrDefault(test, median)).sum()));
+
+        Map<String, Integer> plan = assign(estimates, shard.total());
+        long[] load = new long[shard.total()];
+        plan.forEach((testClass, index) -> load[index] += estimates.get(testClass));
+        log.info("Shard {}: {} of {} classes, estimated {} ms (all shards: {} ms)",
+                shard, plan.values().stream().filter(i -> i == shard.index()).count(), plan.size(),
+                load[shard.index()], Arrays.toString(load));
+        return plan;
+    }
+
+    // Longest-processing-time-first; ties broken by name so every shard derives the same plan
+    static Map<String, Integer> assign(Map<String, Long> estimates, int shards) {
+        long[] load = new long[shards];
+        Map<String, Integer> plan = new HashMap<>();
+        estimates.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> {
+                    int lightest = 0;
+                    for (int i = 1; i < shards; i++) {
+                        if (load[i] < load[lightest]) lightest = i;
+                    }
+                    load[lightest] += entry.getValue();
+                    plan.put(entry.getKey(), lightest);
+                });
+        return plan;
+    }
+
+    private static long median(Map<String, Long> timings) {
+        if (timings.isEmpty()) {
+            return DEFAULT_TEST_MILLIS;
+        }
+        List<Long> sorted = timings.values().stream().sorted(Comparator.naturalOrder()).toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    // Nested classes travel with their enclosing class
+    private static Optional<String> topLevelClass(TestSource source) {
+        String name;
+        if (source instanceof ClassSource cls) {
+            name = cls.getClassName();
+        } else if (source instanceof MethodSource method) {
+            name = method.getClassName();
+        } else {
+            return Optional.empty();
+        }
+        int nested = name.indexOf('$');
+        return Optional.of(nested < 0 ? name : name.substring(0, nested));
+    }
+}
@@ -0,0 +1,63 @@
+package com.xyzbank.base;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardFilterTest {
+
+    @Test
+    @DisplayName("Every class is assigned to exactly one existing shard")
+    public void assignsEveryClassOnce() {
+        Map<String, Long> estimates = new LinkedHashMap<>();
+        for (int i = 0; i < 25; i++) {
+            estimates.put("com.example.Test" + i, (long) (i * 37 % 11) * 100 + 50);
+        }
+
+        Map<String, Integer> plan = ShardFilter.assign(estimates, 4);
+
+        assertEquals(estimates.keySet(), plan.keySet());
+        plan.values().forEach(shard -> assertTrue(shard >= 0 && shard < 4, "shard " + shard));
+    }
+
+    @Test
+    @DisplayName("Longest classes go first onto the least loaded shard")
+    public void packsLongestFirst() {
+        Map<String, Long> estimates = Map.of("A", 7L, "B", 5L, "C", 4L, "D", 3L, "E", 1L);
+
+        Map<String, Integer> plan = ShardFilter.assign(estimates, 2);
+
+        assertEquals(Map.of("A", 0, "B", 1, "C", 1, "D", 0, "E", 1), plan);
+    }
+
+    @Test
+    @DisplayName("The plan does not depend on the order classes were discovered in")
+    public void isDeterministic() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 12; i++) names.add("Class" + i);
+        Map<String, Long> forward = new LinkedHashMap<>();
+        // Equal estimates, so only the tie-break by name decides
+        names.forEach(name -> forward.put(name, 1_000L));
+        Collections.reverse(names);
+        Map<String, Long> backward = new LinkedHashMap<>();
+        names.forEach(name -> backward.put(name, 1_000L));
+
+        assertEquals(ShardFilter.assign(forward, 3), ShardFilter.assign(backward, 3));
+        assertEquals(ShardFilter.assign(forward, 3), ShardFilter.assign(forward, 3));
+    }
+
+    @Test
+    @DisplayName("A single shard gets every class")
+    public void singleShard() {
+        Map<String, Integer> plan = ShardFilter.assign(Map.of("A", 3L, "B", 2L), 1);
+
+        assertEquals(Map.of("A", 0, "B", 0), plan);
+    }
+}
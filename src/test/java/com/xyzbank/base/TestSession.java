@@ -0,0 +1,33 @@
+package com.xyzbank.base;
+
+import com.xyzbank.pages.Pages;
+import com.xyzbank.pages.customer.AccountPage;
+import com.xyzbank.pages.customer.CustomerLoginPage;
+import com.xyzbank.pages.home.HomePage;
+import com.xyzbank.pages.manger.ManagerPage;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * The driver and page objects owned by one worker thread for one test. Pages are
+ * created on first use through the session's {@link Pages} registry.
+ */
+public class TestSession {
+
+    private final WebDriver driver;
+    private final Pages pages;
+
+    public TestSession(WebDriver driver) {
+        this.driver = driver;
+        this.pages  = Pages.of(driver);
+    }
+
+    public WebDriver driver()                    { return driver; }
+    public HomePage homePage()                   { return pages.get(HomePage.class); }
+    public CustomerLoginPage customerLoginPage() { return pages.get(CustomerLoginPage.class); }
+    public AccountPage accountPage()             { return pages.get(AccountPage.class); }
+    public ManagerPage managerPage()             { return pages.get(ManagerPage.class); }
+
+    public void close() {
+        Pages.release(driver);
+    }
+}
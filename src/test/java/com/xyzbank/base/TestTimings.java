@@ -0,0 +1,107 @@
+package com.xyzbank.base;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Per-test durations (ms) from earlier runs, keyed {@code <class>#<method>}.
+ * <p>
+ * Each run writes its own file in {@code .timings/} ({@code -Dtimings.dir}): {@code timings.json}
+ * for an unsharded run, {@code timings-<index>.json} for a shard, so containers can upload their
+ * files into one directory. Reading merges all files, the newest file winning per test. A new
+ * measurement is averaged with the previous one to damp run-to-run noise.
+ */
+final class TestTimings {
+
+    private static final Logger log = LoggerFactory.getLogger(TestTimings.class);
+
+    private static final Json JSON = new Json();
+    private static final Type TIMINGS = new TypeToken<Map<String, Long>>() {}.getType();
+
+    private TestTimings() {
+    }
+
+    static Path dir() {
+        return Paths.get(System.getProperty("timings.dir", ".timings"));
+    }
+
+    static String key(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+
+    static Map<String, Long> load() {
+        return load(dir());
+    }
+
+    static Map<String, Long> load(Path dir) {
+        Map<String, Long> timings = new HashMap<>();
+        if (!Files.isDirectory(dir)) {
+            return timings;
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            // oldest first, so newer files overwrite
+            List<Path> sorted = files.filter(p -> p.getFileName().toString().endsWith(".json"))
+                    .sorted(Comparator.comparing(TestTimings::modified))
+                    .toList();
+            for (Path file : sorted) {
+                timings.putAll(read(file));
+            }
+        } catch (IOException e) {
+            log.warn("Could not read test timings from {}: {}", dir, e.getMessage());
+        }
+        return timings;
+    }
+
+    static void save(Map<String, Long> observed, Shard shard) {
+        save(observed, shard, dir());
+    }
+
+    static void save(Map<String, Long> observed, Shard shard, Path dir) {
+        Path file = dir.resolve(shard.enabled() ? "timings-" + shard.index() + ".json" : "timings.json");
+        Map<String, Long> previous = load(dir);
+        Map<String, Long> merged = new TreeMap<>(Files.exists(file) ? read(file) : Map.of());
+        observed.forEach((key, millis) -> {
+            Long before = previous.get(key);
+            merged.put(key, before == null ? millis : (before + millis) / 2);
+        });
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(file, JSON.toJson(merged));
+            log.info("Recorded {} test timings to {}", observed.size(), file);
+        } catch (IOException e) {
+            log.warn("Could not write test timings to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static Map<String, Long> read(Path file) {
+        try {
+            Map<String, Long> timings = JSON.toType(Files.readString(file), TIMINGS);
+            return timings == null ? Map.of() : timings;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable timings file {}: {}", file, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private static long modified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.xyzbank.base;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestTimingsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("A missing timings directory reads as no history")
+    public void missingDirectory() {
+        assertTrue(TestTimings.load(dir.resolve("absent")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("An unreadable file is skipped and the others are still used")
+    public void corruptFileIgnored() throws IOException {
+        Files.writeString(dir.resolve("timings-0.json"), "{\"A#a\": 120");
+        Files.writeString(dir.resolve("timings-1.json"), "{\"B#b\": 300}");
+
+        assertEquals(Map.of("B#b", 300L), TestTimings.load(dir));
+    }
+
+    @Test
+    @DisplayName("Files from all shards are merged, the newest file winning per test")
+    public void newestFileWins() throws IOException {
+        Path older = Files.writeString(dir.resolve("timings-0.json"), "{\"A#a\": 100, \"B#b\": 200}");
+        Path newer = Files.writeString(dir.resolve("timings-1.json"), "{\"A#a\": 400}");
+        Files.setLastModifiedTime(older, FileTime.fromMillis(1_000_000));
+        Files.setLastModifiedTime(newer, FileTime.fromMillis(2_000_000));
+
+        assertEquals(Map.of("A#a", 400L, "B#b", 200L), TestTimings.load(dir));
+    }
+
+    @Test
+    @DisplayName("A new measurement is averaged with the previous one")
+    public void saveAveragesWithHistory() {
+        Shard unsharded = new Shard(0, 1);
+        TestTimings.save(Map.of("A#a", 100L, "B#b", 500L), unsharded, dir);
+        TestTimings.save(Map.of("A#a", 300L), unsharded, dir);
+
+        assertTrue(Files.exists(dir.resolve("timings.json")));
+        assertEquals(Map.of("A#a", 200L, "B#b", 500L), TestTimings.load(dir));
+    }
+
+    @Test
+    @DisplayName("A shard writes its own file")
+    public void shardWritesOwnFile() {
+        TestTimings.save(Map.of("A#a", 100L), new Shard(1, 3), dir);
+
+        assertTrue(Files.exists(dir.resolve("timings-1.json")));
+        assertFalse(Files.exists(dir.resolve("timings.json")));
+    }
+}
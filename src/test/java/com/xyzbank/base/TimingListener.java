@@ -0,0 +1,50 @@
+package com.xyzbank.base;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each test took (summed over its invocations) and writes the result to
+ * {@link TestTimings} when the run ends, feeding the next run's {@link ShardFilter} plan.
+ * Registered through {@code META-INF/services}; {@code -Dtimings.record=false} turns it off.
+ */
+public class TimingListener implements TestExecutionListener {
+
+    private static final boolean RECORD =
+            Boolean.parseBoolean(System.getProperty("timings.record", "true"));
+
+    private final Map<String, Long> started = new ConcurrentHashMap<>();
+    private final Map<String, Long> observed = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier test) {
+        if (RECORD && test.isTest()) {
+            started.put(test.getUniqueId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier test, TestExecutionResult result) {
+        Long start = started.remove(test.getUniqueId());
+        if (start == null || !(test.getSource().orElse(null) instanceof MethodSource method)) {
+            return;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        observed.merge(TestTimings.key(method.getClassName(), method.getMethodName()), millis, Long::sum);
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!observed.isEmpty()) {
+            TestTimings.save(Map.copyOf(observed), Shard.current());
+            observed.clear();
+        }
+    }
+}
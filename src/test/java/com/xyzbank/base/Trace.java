@@ -0,0 +1,15 @@
+package com.xyzbank.base;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records a Chrome performance trace while the test (or every test of a class) runs;
+ * {@code -Dtrace=true} does the same for all tests. See {@link TraceWriter} for the output.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Trace {
+}
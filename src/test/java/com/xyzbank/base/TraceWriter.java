@@ -0,0 +1,54 @@
+package com.xyzbank.base;
+
+import com.xyzbank.driver.ChromeTrace;
+import com.xyzbank.metrics.TraceSummary;
+import io.qameta.allure.Allure;
+import io.qameta.allure.model.Attachment;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Attaches a finished {@link ChromeTrace} to the current Allure test: the gzipped trace
+ * (written into the Allure results directory, loadable in the DevTools Performance panel),
+ * the main-thread breakdown from {@link TraceSummary} and the browser's performance metrics.
+ */
+public class TraceWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(TraceWriter.class);
+
+    private static final Path RESULTS_DIR =
+            Paths.get(System.getProperty("allure.results.directory", "target/allure-results"));
+
+    private TraceWriter() {
+    }
+
+    public static void attach(String testName, ChromeTrace.Result trace) {
+        Map<String, Object> summary = TraceSummary.mainThread(trace.events());
+        log.info("Main thread during '{}': {}", testName, summary);
+        Allure.addAttachment("Main-thread breakdown", "application/json", new Json().toJson(summary), ".json");
+        Allure.addAttachment("Performance metrics", "application/json",
+                new Json().toJson(trace.performanceMetrics()), ".json");
+
+        String fileName = UUID.randomUUID() + "-attachment.json.gz";
+        try {
+            Files.createDirectories(RESULTS_DIR);
+            try (OutputStream out = Files.newOutputStream(RESULTS_DIR.resolve(fileName))) {
+                ChromeTrace.writeGzip(trace.events(), out);
+            }
+            Allure.getLifecycle().updateTestCase(result -> result.getAttachments().add(
+                    new Attachment().setName("Chrome trace").setType("application/gzip").setSource(fileName)));
+            log.debug("Trace with {} events written to {}", trace.events().size(), fileName);
+        } catch (IOException e) {
+            log.warn("Failed to write trace: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.xyzbank.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScalingCurveTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    @DisplayName("Linear growth has exponent 1")
+    public void linear() {
+        ScalingCurve curve = curve(n -> 0.5 * n);
+
+        assertEquals(1.0, curve.overallExponent(), EPSILON);
+        assertEquals(1.0, curve.tailExponent(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("Quadratic growth has exponent 2")
+    public void quadratic() {
+        ScalingCurve curve = curve(n -> 0.001 * n * n);
+
+        assertEquals(2.0, curve.overallExponent(), EPSILON);
+        assertEquals(2.0, curve.tailExponent(), EPSILON);
+    }
+
+    @Test
+    @DisplayName("The tail exponent ignores fixed overhead at small sizes")
+    public void tailIgnoresFixedOverhead() {
+        ScalingCurve curve = new ScalingCurve("filter");
+        curve.add(10, 50);
+        curve.add(100, 50);
+        curve.add(10_000, 100);
+        curve.add(100_000, 1_000);
+
+        assertEquals(1.0, curve.tailExponent(), EPSILON);
+        assertTrue(curve.overallExponent() < 0.8, "overall " + curve.overallExponent());
+    }
+
+    @Test
+    @DisplayName("A single point gives no exponent and null in the summary")
+    public void singlePoint() {
+        ScalingCurve curve = new ScalingCurve("search");
+        curve.add(100, 12.5);
+
+        assertEquals(1, curve.points());
+        assertTrue(Double.isNaN(curve.overallExponent()));
+        assertTrue(Double.isNaN(curve.tailExponent()));
+        Map<String, Object> summary = curve.summary();
+        assertNull(summary.get("overallExponent"));
+        assertNull(summary.get("tailExponent"));
+        assertEquals(List.of(Map.of("size", 100, "ms", 12.5)), summary.get("points"));
+    }
+
+    @Test
+    @DisplayName("Zero timings do not break the log scale")
+    public void zeroTimings() {
+        ScalingCurve curve = new ScalingCurve("login");
+        curve.add(10, 0);
+        curve.add(1_000, 0);
+
+        assertEquals(0.0, curve.tailExponent(), EPSILON);
+        assertEquals(0.0, curve.overallExponent(), EPSILON);
+    }
+
+    private static ScalingCurve curve(IntToDoubleFunction millis) {
+        ScalingCurve curve = new ScalingCurve("search");
+        for (int n : new int[]{10, 100, 1_000, 10_000}) {
+            curve.add(n, millis.applyAsDouble(n));
+        }
+        return curve;
+    }
+}
@@ -0,0 +1,74 @@
+package com.xyzbank.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TraceSummaryTest {
+
+    @Test
+    @DisplayName("Nested slices count their self time towards their own category")
+    public void splitsSelfTime() {
+        List<Map<String, Object>> events = List.of(
+                threadName(1, 1, "CrRendererMain"),
+                // 6 ms task: 3 ms own work, 2 ms script, 1 ms layout inside the script
+                slice(1, 1, "RunTask", 0, 6_000),
+                slice(1, 1, "FunctionCall", 1_000, 3_000),
+                slice(1, 1, "Layout", 2_000, 1_000),
+                slice(1, 1, "Paint", 10_000, 1_500));
+
+        Map<String, Object> summary = TraceSummary.mainThread(events);
+
+        assertEquals(7.5, summary.get("mainThreadMs"));
+        assertEquals(2.0, summary.get("scriptingMs"));
+        assertEquals(1.0, summary.get("layoutMs"));
+        assertEquals(1.5, summary.get("paintMs"));
+        assertEquals(3.0, summary.get("otherMs"));
+        assertEquals(2, summary.get("tasks"));
+        assertEquals(6.0, summary.get("longestTaskMs"));
+    }
+
+    @Test
+    @DisplayName("Only the busiest renderer main thread is summarised")
+    public void busiestRendererMainThread() {
+        List<Map<String, Object>> events = List.of(
+                threadName(1, 1, "CrRendererMain"),
+                threadName(2, 1, "CrRendererMain"),
+                threadName(1, 2, "Compositor"),
+                slice(1, 1, "FunctionCall", 0, 1_000),
+                slice(1, 1, "FunctionCall", 2_000, 1_000),
+                slice(2, 1, "Layout", 0, 50_000),
+                slice(1, 2, "Paint", 0, 90_000),
+                Map.of("pid", 1, "tid", 1, "ph", "I", "name", "Mark", "ts", 500));
+
+        Map<String, Object> summary = TraceSummary.mainThread(events);
+
+        assertEquals(2.0, summary.get("mainThreadMs"));
+        assertEquals(2.0, summary.get("scriptingMs"));
+        assertEquals(0.0, summary.get("layoutMs"));
+        assertEquals(0.0, summary.get("paintMs"));
+        assertEquals(2, summary.get("tasks"));
+    }
+
+    @Test
+    @DisplayName("A trace without a renderer main thread sums to zero")
+    public void emptyTrace() {
+        Map<String, Object> summary = TraceSummary.mainThread(List.of(slice(1, 2, "Paint", 0, 1_000)));
+
+        assertEquals(0.0, summary.get("mainThreadMs"));
+        assertEquals(0, summary.get("tasks"));
+        assertEquals(0.0, summary.get("longestTaskMs"));
+    }
+
+    private static Map<String, Object> threadName(int pid, int tid, String name) {
+        return Map.of("pid", pid, "tid", tid, "ph", "M", "name", "thread_name", "args", Map.of("name", name));
+    }
+
+    private static Map<String, Object> slice(int pid, int tid, String name, long ts, long dur) {
+        return Map.of("pid", pid, "tid", tid, "ph", "X", "name", name, "ts", ts, "dur", dur);
+    }
+}
@@ -0,0 +1,47 @@
+package com.xyzbank.testdata;
+
+import java.util.Random;
+
+/**
+ * One step of a generated deposit/withdraw sequence.
+ * <p>
+ * {@link #next(Random, int)} draws the mix the customer tests cover one scenario at a
+ * time: ordinary deposits and withdrawals, withdrawing the exact balance, zero amounts
+ * and overdrafts ({@link TestData#WITHDRAW_OVER} or more than the balance).
+ */
+public record LedgerOperation(Kind kind, int amount) {
+
+    public enum Kind { DEPOSIT, WITHDRAW }
+
+    private static final int MAX_AMOUNT = 1_000;
+    private static final int OVERDRAFT  = Integer.parseInt(TestData.WITHDRAW_OVER);
+
+    public static LedgerOperation next(Random random, int balance) {
+        int roll = random.nextInt(100);
+        if (roll < 45 || (roll < 80 && balance == 0)) {
+            return deposit(1 + random.nextInt(MAX_AMOUNT));
+        }
+        if (roll < 75) {
+            return withdraw(1 + random.nextInt(Math.min(balance, MAX_AMOUNT)));
+        }
+        if (roll < 80) {
+            return withdraw(balance);
+        }
+        if (roll < 88) {
+            return random.nextBoolean() ? deposit(0) : withdraw(0);
+        }
+        return withdraw(balance < OVERDRAFT ? OVERDRAFT : balance + 1 + random.nextInt(MAX_AMOUNT));
+    }
+
+    public static LedgerOperation deposit(int amount)  { return new LedgerOperation(Kind.DEPOSIT, amount); }
+    public static LedgerOperation withdraw(int amount) { return new LedgerOperation(Kind.WITHDRAW, amount); }
+
+    public String amountText() {
+        return String.valueOf(amount);
+    }
+
+    @Override
+    public String toString() {
+        return kind.name().toLowerCase() + " " + amount;
+    }
+}
@@ -0,0 +1,48 @@
+package com.xyzbank.testdata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory model of one account: the balance and history the app should show after
+ * a sequence of {@link LedgerOperation}s. Zero amounts and overdrafts leave no entry.
+ */
+public class ReferenceLedger {
+
+    private int balance;
+    private final List<String> history = new ArrayList<>();
+
+    /**
+     * Applies the operation and returns the status message the app should show for it,
+     * or null for zero amounts, whose message differs between app versions.
+     */
+    public String apply(LedgerOperation op) {
+        if (op.amount() == 0) {
+            return null;
+        }
+        if (op.kind() == LedgerOperation.Kind.DEPOSIT) {
+            balance += op.amount();
+            history.add(entry("Credit", op.amount()));
+            return TestData.DEPOSIT_SUCCESS_MSG;
+        }
+        if (op.amount() > balance) {
+            return TestData.WITHDRAW_FAIL_MSG;
+        }
+        balance -= op.amount();
+        history.add(entry("Debit", op.amount()));
+        return TestData.WITHDRAW_SUCCESS_MSG;
+    }
+
+    public int balance() {
+        return balance;
+    }
+
+    // "Credit 250", "Debit 40", ... in the order they were made
+    public List<String> history() {
+        return List.copyOf(history);
+    }
+
+    public static String entry(String type, int amount) {
+        return type + " " + amount;
+    }
+}
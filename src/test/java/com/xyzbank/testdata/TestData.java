@@ -1,5 +1,7 @@
 package com.xyzbank.testdata;
 
+import com.xyzbank.app.SeedCustomer;
+
 import java.util.UUID;
 
 public class TestData {
@@ -14,6 +16,7 @@ public class TestData {
         return "Test" + UUID.randomUUID().toString().replace("-", "").substring(0, 6);
     }
     public static String uniqueLast()     { return "User"; }
+    public static String fullName(String first, String last) { return first + " " + last; }
     public static String uniquePostcode() { return "10001"; }
 
     // ── Valid new customer data (used by ManagerTest) ───────────────────
@@ -42,6 +45,14 @@ public class TestData {
     public static final String DOLLAR = "Dollar";
     public static final String POUND  = "Pound";
 
+    // ── Bulk data for large-data tests (BankStore.seed) ─────────────────
+    // Example output for i = 42: "Seed42 Customer", postcode "E10042", Dollar balance 142
+    public static final int LARGE_DATA_SET = 5_000;
+    public static SeedCustomer seedCustomer(int i) {
+        return SeedCustomer.withAccount("Seed" + i, "Customer", "E" + (10_000 + i), DOLLAR, 100 + i % 900);
+    }
+    public static String seedFullName(int i) { return seedCustomer(i).fullName(); }
+
     // ── Expected messages shown by the app ──────────────────────────────
     public static final String CUSTOMER_ADDED_MSG  = "Customer added successfully";
     public static final String ACCOUNT_CREATED_MSG = "Account created successfully";
@@ -0,0 +1,161 @@
+package com.xyzbank.tests;
+
+import com.xyzbank.app.BankApp;
+import com.xyzbank.app.BankStore;
+import com.xyzbank.app.SeedCustomer;
+import com.xyzbank.base.BaseTest;
+import com.xyzbank.driver.EmulationProfile;
+import com.xyzbank.metrics.LatencyRecorder;
+import com.xyzbank.metrics.Metrics;
+import com.xyzbank.pages.customer.AccountPage;
+import com.xyzbank.pages.customer.LoginMode;
+import com.xyzbank.pages.manger.ManagerPage;
+import com.xyzbank.testdata.TestData;
+import io.qameta.allure.*;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Times the key account and manager flows under each emulation profile (network, CPU and
+ * viewport throttling) and writes one latency table per profile, p50/p95 per flow, to
+ * {@code target/metrics/emulation.json}. Page timings of the same runs land in
+ * {@code target/metrics/pages/}.
+ * <p>
+ * Tagged {@code perf} and excluded by default; run with
+ * {@code mvn test -Dgroups=perf -DexcludedGroups=none [-Dperf.profiles=none,slow-4g,cpu-4x+mobile]}.
+ * A {@code +} combines profiles into one scenario.
+ */
+@Tag("perf")
+@Epic("XYZ Bank")
+@Feature("Performance")
+@Execution(ExecutionMode.SAME_THREAD)
+public class EmulationPerfTest extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(EmulationPerfTest.class);
+
+    private static final int REPETITIONS = Integer.getInteger("perf.repetitions", 3);
+    private static final int CUSTOMERS = 50;
+    private static final Map<String, LatencyRecorder> TABLES = new ConcurrentHashMap<>();
+
+    static Stream<String> profiles() {
+        return Arrays.stream(System.getProperty("perf.profiles", "none,slow-4g,3g,cpu-4x,cpu-6x,mobile").split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty());
+    }
+
+    @BeforeEach
+    public void requireLocalApp() {
+        Assumptions.assumeTrue(BankApp.isLocal(), "Emulation runs seed the local app");
+    }
+
+    @ParameterizedTest(name = "Account flows under {0}")
+    @MethodSource("profiles")
+    @Story("Deposit") @Severity(SeverityLevel.NORMAL)
+    public void accountFlows(String profile) {
+        SeedCustomer owner = new SeedCustomer("Throttled", "Owner", "E20000", List.of(
+                new SeedCustomer.Account(TestData.DOLLAR, 1_000, List.of(500, 500))));
+        new BankStore(driver).seed(List.of(owner));
+        emulate(profile);
+
+        measure(profile, "login", () -> {
+            homePage().open();
+            homePage().clickCustomerLogin().loginAs(owner.fullName(), LoginMode.UI);
+        });
+        AccountPage account = accountPage();
+        measure(profile, "deposit", () -> account.deposit("10"));
+        measure(profile, "withdraw", () -> account.withdraw("5"));
+        measure(profile, "transactionsTab", () -> {
+            account.clickTransactionsTab();
+            assertTrue(account.getTransactionCount() >= 2, "Seeded transactions should be listed");
+            account.backToAccount();
+        });
+    }
+
+    @ParameterizedTest(name = "Manager flows under {0}")
+    @MethodSource("profiles")
+    @Story("Add Customer") @Severity(SeverityLevel.NORMAL)
+    public void managerFlows(String profile) {
+        new BankStore(driver).seed(CUSTOMERS, TestData::seedCustomer);
+        emulate(profile);
+
+        homePage().clickManagerLogin();
+        ManagerPage manager = managerPage();
+        measure(profile, "addCustomer", () -> assertTrue(
+                manager.addCustomer(TestData.uniqueFirst(), TestData.uniqueLast(), TestData.uniquePostcode())
+                        .contains(TestData.CUSTOMER_ADDED_MSG), "Customer should be added"));
+        measure(profile, "openAccount", () -> assertTrue(
+                manager.openAccount(TestData.seedFullName(0), TestData.DOLLAR)
+                        .contains(TestData.ACCOUNT_CREATED_MSG), "Account should be created"));
+        measure(profile, "customersTab", () -> {
+            manager.goToCustomers();
+            assertTrue(manager.getCustomers().size() >= CUSTOMERS, "Seeded customers should be listed");
+        });
+    }
+
+    @AfterAll
+    public static void writeTables() throws IOException {
+        if (TABLES.isEmpty()) return;
+        List<Map<String, Object>> report = new ArrayList<>();
+        profiles().filter(TABLES::containsKey).forEach(profile -> report.add(TABLES.get(profile).summary()));
+        Files.createDirectories(Metrics.metricsDir());
+        Path file = Metrics.metricsDir().resolve("emulation.json");
+        Files.writeString(file, new Json().toJson(report));
+        log.info("Latency per emulation profile (p50 ms):\n{}", p50Table());
+        log.info("Emulation latency tables written to {}", file);
+    }
+
+    private void emulate(String profile) {
+        emulate(EmulationProfile.parse(profile.replace('+', ',')));
+        Allure.parameter("emulation", profile);
+    }
+
+    // One warm-up run, then REPETITIONS timed runs into the profile's table
+    private void measure(String profile, String flow, Runnable action) {
+        action.run();
+        LatencyRecorder table = TABLES.computeIfAbsent(profile, LatencyRecorder::new);
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            table.record(flow, System.nanoTime() - start);
+        }
+        log.info("{} under {}: p50 {} ms", flow, profile,
+                String.format("%.1f", table.histogram(flow).getValueAtPercentile(50) / 1000.0));
+    }
+
+    private static String p50Table() {
+        List<String> profiles = profiles().filter(TABLES::containsKey).toList();
+        TreeSet<String> flows = new TreeSet<>();
+        profiles.forEach(p -> flows.addAll(TABLES.get(p).histograms().keySet()));
+        StringBuilder out = new StringBuilder(String.format("%-16s", "flow"));
+        profiles.forEach(p -> out.append(String.format("%18s", p)));
+        for (String flow : flows) {
+            out.append(String.format("%n%-16s", flow));
+            for (String p : profiles) {
+                Histogram h = TABLES.get(p).histogram(flow);
+                out.append(h == null ? String.format("%18s", "-")
+                        : String.format("%18.1f", h.getValueAtPercentile(50) / 1000.0));
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.xyzbank.tests;
+
+import com.xyzbank.app.BankApp;
+import com.xyzbank.app.BankStore;
+import com.xyzbank.base.BaseTest;
+import com.xyzbank.metrics.Budgets;
+import com.xyzbank.pages.customer.LoginMode;
+import com.xyzbank.testdata.TestData;
+import com.xyzbank.utils.DomSnapshot;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Epic("XYZ Bank")
+@Feature("Large Data Sets")
+@Tag("large-data")
+public class LargeDataTest extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LargeDataTest.class);
+
+    private static final int LAST = TestData.LARGE_DATA_SET - 1;
+
+    @BeforeEach
+    public void seedCustomers() {
+        // Seeding writes the bundled app's client-side store directly
+        Assumptions.assumeTrue(BankApp.isLocal(), "Large data sets need the local app");
+        // Not a budget check: searches over 5,000 rows would also skew the action baseline
+        Budgets.suspend();
+        log.info("Seeding {} customers with Dollar accounts", TestData.LARGE_DATA_SET);
+        int total = new BankStore(driver).seed(TestData.LARGE_DATA_SET, TestData::seedCustomer);
+        log.debug("Store now holds {} customers", total);
+    }
+
+    @Test
+    @Story("Customer Search") @Severity(SeverityLevel.NORMAL)
+    @Description("Verify the manager's customer search finds a customer among thousands")
+    @DisplayName("TC-21: Search customer list at scale")
+    public void testSearchCustomerAtScale() {
+        homePage().clickManagerLogin();
+        String first = TestData.seedCustomer(LAST).firstName();
+        log.info("Searching {} customers for '{}'", TestData.LARGE_DATA_SET, first);
+        assertTrue(managerPage().isCustomerInList(first),
+                "Last seeded customer should be found by search");
+        log.info("Customer '{}' found in large list", first);
+    }
+
+    @Test
+    @Story("Customer Login") @Severity(SeverityLevel.NORMAL)
+    @Description("Verify the login dropdown lists every seeded customer and login still works")
+    @DisplayName("TC-22: Customer login with a large dropdown")
+    public void testLoginDropdownAtScale() {
+        homePage().clickCustomerLogin();
+        List<String> options = DomSnapshot.capture(driver, "#userSelect").optionTexts();
+        log.debug("Login dropdown has {} options", options.size());
+        assertTrue(options.containsAll(List.of(TestData.seedFullName(0), TestData.seedFullName(LAST))),
+                "Dropdown should list the first and last seeded customers");
+
+        customerLoginPage().loginAs(TestData.seedFullName(LAST), LoginMode.UI);
+        assertEquals(TestData.seedCustomer(LAST).accounts().get(0).balance(), accountPage().getBalance(),
+                "Seeded balance should be shown after login");
+        log.info("Logged in as '{}' from a {}-entry dropdown", TestData.seedFullName(LAST), options.size());
+    }
+}
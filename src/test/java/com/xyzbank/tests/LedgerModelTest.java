@@ -0,0 +1,95 @@
+package com.xyzbank.tests;
+
+import com.xyzbank.base.BaseTest;
+import com.xyzbank.pages.customer.AccountPage;
+import com.xyzbank.testdata.LedgerOperation;
+import com.xyzbank.testdata.ReferenceLedger;
+import com.xyzbank.testdata.TestData;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Epic("XYZ Bank")
+@Feature("Customer Banking")
+public class LedgerModelTest extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerModelTest.class);
+
+    // -Dledger.operations=5000 for a long soak; -Dledger.seed replays a failing sequence
+    private static final int  OPERATIONS  = Integer.getInteger("ledger.operations", 100);
+    // Average steps between checkpoints; 1 checks after every step
+    private static final int  CHECK_EVERY = Math.max(1, Integer.getInteger("ledger.checkEvery", 25));
+    private static final long SEED        = Long.getLong("ledger.seed", System.nanoTime());
+
+    private String customerName;
+
+    @BeforeEach
+    public void loginCustomer() {
+        customerName = createCustomerWithAccount(false);
+        log.info("Created customer '{}' with an empty {} account", customerName, TestData.DOLLAR);
+        customerLoginPage().loginAs(customerName);
+    }
+
+    @Test
+    @Story("Ledger Consistency") @Severity(SeverityLevel.CRITICAL)
+    @Description("Run a long random sequence of deposits and withdrawals (including zero amounts and "
+            + "overdrafts) in one session and compare balance, status and history with a reference ledger "
+            + "at sampled checkpoints and at the end")
+    @DisplayName("TC-23: Random transaction sequence matches reference ledger")
+    public void testRandomSequenceMatchesLedger() {
+        Allure.parameter("seed", SEED);
+        Allure.parameter("operations", OPERATIONS);
+        log.info("Running {} operations for '{}' with seed {}", OPERATIONS, customerName, SEED);
+
+        Random random = new Random(SEED);
+        ReferenceLedger ledger = new ReferenceLedger();
+        int checkpoints = 0;
+        for (int step = 1; step <= OPERATIONS; step++) {
+            LedgerOperation op = LedgerOperation.next(random, ledger.balance());
+            String expectedStatus = ledger.apply(op);
+            log.debug("#{} {}", step, op);
+            perform(op);
+            if (step == OPERATIONS || random.nextInt(CHECK_EVERY) == 0) {
+                verify(ledger, expectedStatus, "after #" + step + " " + op + " (seed " + SEED + ")");
+                checkpoints++;
+            }
+        }
+        log.info("{} operations matched the reference ledger at {} checkpoints, final balance {}",
+                OPERATIONS, checkpoints, ledger.balance());
+    }
+
+    private void perform(LedgerOperation op) {
+        AccountPage account = accountPage();
+        if (op.kind() == LedgerOperation.Kind.DEPOSIT) {
+            account.deposit(op.amountText());
+        } else {
+            account.withdraw(op.amountText());
+        }
+    }
+
+    private void verify(ReferenceLedger ledger, String expectedStatus, String context) {
+        AccountPage account = accountPage();
+        if (expectedStatus != null) {
+            String status = account.getStatusMessage();
+            assertTrue(status.contains(expectedStatus),
+                    "Expected '" + expectedStatus + "' " + context + ". Got: " + status);
+        }
+        assertEquals(ledger.balance(), account.getBalance(), "Balance " + context);
+
+        account.clickTransactionsTab();
+        List<String> history = account.getTransactions().stream()
+                .map(t -> ReferenceLedger.entry(t.type(), t.amount()))
+                .toList();
+        // The live app orders history by timestamp, so entries made in the same second may swap
+        assertEquals(ledger.history().stream().sorted().toList(), history.stream().sorted().toList(),
+                "Transaction history " + context);
+        account.backToAccount();
+        log.debug("Checkpoint {}: balance {} and {} history entries match", context, ledger.balance(), history.size());
+    }
+}
@@ -0,0 +1,53 @@
+package com.xyzbank.tests;
+
+import com.xyzbank.app.BankApp;
+import com.xyzbank.load.LoadProfile;
+import com.xyzbank.load.LoadRunner;
+import com.xyzbank.load.StageResult;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Virtual-user load against the local app. Tagged {@code load} and excluded by default:
+ * {@code mvn test -Dgroups=load -DexcludedGroups=none -Dload.users=1,2,4,8}.
+ */
+@Tag("load")
+@Epic("XYZ Bank")
+@Feature("Performance")
+@Execution(ExecutionMode.SAME_THREAD)
+public class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final double MAX_ERROR_RATE = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+
+    @Test
+    @Story("Customer Load") @Severity(SeverityLevel.NORMAL)
+    @Description("Drive concurrent virtual customers through login, deposit, withdraw and transactions")
+    @DisplayName("Load: customer flows under increasing concurrency")
+    public void customerFlowsUnderLoad() {
+        Assumptions.assumeTrue(BankApp.isLocal(), "Load runs target the local app copy");
+        List<StageResult> stages = new LoadRunner(LoadProfile.fromSystemProperties()).run();
+
+        String report = new Json().toJson(stages.stream().map(StageResult::summary).collect(Collectors.toList()));
+        Allure.addAttachment("Load report", "application/json", report, ".json");
+
+        for (StageResult stage : stages) {
+            log.info("{} users -> {}", stage.users(), stage.summary());
+            assertTrue(stage.operations() > 0, "Stage with " + stage.users() + " users completed no actions");
+            double errorRate = (double) stage.errors() / (stage.operations() + stage.errors());
+            assertTrue(errorRate <= MAX_ERROR_RATE, String.format(
+                    "Stage with %d users had %.1f%% failed actions", stage.users(), errorRate * 100));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.xyzbank.tests;
+
+import com.xyzbank.app.BankApp;
+import com.xyzbank.app.BankStore;
+import com.xyzbank.app.SeedCustomer;
+import com.xyzbank.base.BaseTest;
+import com.xyzbank.metrics.Budgets;
+import com.xyzbank.metrics.Metrics;
+import com.xyzbank.metrics.ScalingCurve;
+import com.xyzbank.pages.customer.LoginMode;
+import com.xyzbank.testdata.TestData;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Times page-object operations at growing data sizes and fails when one of them
+ * grows super-linearly (log-log slope between the two largest sizes above
+ * {@code perf.maxExponent}, default 1.5).
+ * <p>
+ * Tagged {@code perf} and excluded by default; run with
+ * {@code mvn test -Dgroups=perf -DexcludedGroups=none [-Dperf.sizes=10,100,1000,10000]}.
+ */
+@Tag("perf")
+@Epic("XYZ Bank")
+@Feature("Performance")
+@Execution(ExecutionMode.SAME_THREAD)
+public class ScalingPerfTest extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ScalingPerfTest.class);
+
+    private static final int REPETITIONS = Integer.getInteger("perf.repetitions", 3);
+    private static final double MAX_EXPONENT = Double.parseDouble(System.getProperty("perf.maxExponent", "1.5"));
+    private static final Map<String, ScalingCurve> CURVES = new ConcurrentHashMap<>();
+
+    static IntStream sizes() {
+        return Arrays.stream(System.getProperty("perf.sizes", "10,100,1000,10000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt);
+    }
+
+    @BeforeEach
+    public void requireLocalApp() {
+        Assumptions.assumeTrue(BankApp.isLocal(), "Scaling runs seed the local app");
+        // Timings at 10,000 rows say nothing about the budgets or the desktop baseline
+        Budgets.suspend();
+    }
+
+    @ParameterizedTest(name = "Customer search with {0} customers")
+    @MethodSource("sizes")
+    @Story("Customer Search") @Severity(SeverityLevel.NORMAL)
+    public void customerSearch(int size) {
+        seedCustomers(size);
+        homePage().clickManagerLogin();
+        String target = TestData.seedCustomer(size - 1).firstName();
+        measure("customerSearch", size, () ->
+                assertTrue(managerPage().isCustomerInList(target), "Last customer should be found"));
+    }
+
+    @ParameterizedTest(name = "Customer filter with {0} customers")
+    @MethodSource("sizes")
+    @Story("Customer Search") @Severity(SeverityLevel.NORMAL)
+    public void customerFilter(int size) {
+        seedCustomers(size);
+        homePage().clickManagerLogin();
+        // "Customer" matches every seeded row, so the whole list is filtered and read back
+        measure("customerFilter", size, () ->
+                assertTrue(managerPage().searchCustomers("Customer").size() >= size, "All seeded rows should match"));
+    }
+
+    @ParameterizedTest(name = "Login dropdown with {0} customers")
+    @MethodSource("sizes")
+    @Story("Customer Login") @Severity(SeverityLevel.NORMAL)
+    public void loginDropdown(int size) {
+        seedCustomers(size);
+        String name = TestData.seedFullName(size - 1);
+        measure("loginDropdown", size, () -> {
+            homePage().open();
+            homePage().clickCustomerLogin().loginAs(name, LoginMode.UI);
+        });
+    }
+
+    @ParameterizedTest(name = "Transactions tab with {0} transactions")
+    @MethodSource("sizes")
+    @Story("View Transactions") @Severity(SeverityLevel.NORMAL)
+    public void transactionsTab(int size) {
+        SeedCustomer owner = new SeedCustomer("Ledger", "Owner", "E10000", List.of(
+                new SeedCustomer.Account(TestData.DOLLAR, size, Collections.nCopies(size, 1))));
+        new BankStore(driver).seed(List.of(owner));
+        measure("transactionsTab", size, () -> {
+            customerLoginPage().loginAs(owner.fullName(), LoginMode.STATE);
+            accountPage().clickTransactionsTab();
+            assertEquals(size, accountPage().getTransactionCount(), "Every transaction should be listed");
+        });
+    }
+
+    @AfterAll
+    public static void checkGrowth() throws IOException {
+        if (CURVES.isEmpty()) return;
+        List<Map<String, Object>> report = new ArrayList<>();
+        List<String> superLinear = new ArrayList<>();
+        CURVES.values().stream()
+                .sorted((a, b) -> a.operation().compareTo(b.operation()))
+                .forEach(curve -> {
+                    report.add(curve.summary());
+                    log.info("Scaling {}: {}", curve.operation(), curve.summary());
+                    if (curve.points() >= 2 && curve.tailExponent() > MAX_EXPONENT) {
+                        superLinear.add(String.format("%s (exponent %.2f)", curve.operation(), curve.tailExponent()));
+                    }
+                });
+        Files.createDirectories(Metrics.metricsDir());
+        Path file = Metrics.metricsDir().resolve("scaling.json");
+        Files.writeString(file, new Json().toJson(report));
+        log.info("Scaling curves written to {}", file);
+
+        assertTrue(superLinear.isEmpty(), "Super-linear growth above exponent " + MAX_EXPONENT + ": " + superLinear);
+    }
+
+    private void seedCustomers(int size) {
+        new BankStore(driver).seed(size, TestData::seedCustomer);
+    }
+
+    // One warm-up run, then the median of REPETITIONS timed runs
+    private void measure(String operation, int size, Runnable action) {
+        action.run();
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < REPETITIONS; i++) {
+            long start = System.nanoTime();
+            action.run();
+            samples.add((System.nanoTime() - start) / 1_000_000.0);
+        }
+        Collections.sort(samples);
+        double median = samples.get(samples.size() / 2);
+        CURVES.computeIfAbsent(operation, ScalingCurve::new).add(size, median);
+        log.info("{} at size {}: median {} ms (runs: {})", operation, size, String.format("%.1f", median),
+                samples.stream().map(ms -> String.format("%.1f", ms)).collect(Collectors.joining(", ")));
+    }
+}